@@ -0,0 +1,42 @@
+package com.katlego.task_tracking_api.benchmark;
+
+import com.katlego.task_tracking_api.domain.Role;
+import com.katlego.task_tracking_api.domain.Task;
+import com.katlego.task_tracking_api.domain.TaskStatus;
+import com.katlego.task_tracking_api.domain.User;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Entities shaped like a typical row of the task search, without a database.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setPasswordHash("$2a$10$7EqJtq98hPqEX7fNZaFWoOa6u1ljCFb5nRLmZNz7Bk8YLbYF0K5W2");
+        user.setRole(new Role(2L, "USER"));
+        user.setCreatedAt(Instant.parse("2025-01-01T00:00:00Z"));
+        return user;
+    }
+
+    static Task task(long id, User assignee) {
+        Instant created = Instant.parse("2025-01-01T00:00:00Z").plus(id, ChronoUnit.MINUTES);
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription("Prepare the quarterly report and circulate it to the team for review.");
+        task.setStatus(TaskStatus.values()[(int) (id % TaskStatus.values().length)]);
+        task.setCreatedDate(created);
+        task.setDueDate(created.plus(7, ChronoUnit.DAYS));
+        task.setAssignedUser(assignee);
+        return task;
+    }
+}
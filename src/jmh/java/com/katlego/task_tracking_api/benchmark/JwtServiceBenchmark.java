@@ -0,0 +1,67 @@
+package com.katlego.task_tracking_api.benchmark;
+
+import com.katlego.task_tracking_api.security.entity.CustomUserDetails;
+import com.katlego.task_tracking_api.security.entity.TokenType;
+import com.katlego.task_tracking_api.security.jwt.service.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of issuing and checking access tokens. {@code validateAccessTokenLegacy} repeats the
+ * three separate parses the request filter used to do before {@link JwtService#verifyToken}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-that-is-long-enough-for-hs256-signing";
+    private static final String EMAIL = "user1@example.com";
+
+    private JwtService jwtService;
+    private CustomUserDetails userDetails;
+    private Map<String, Object> claims;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 900_000, 604_800_000, new SimpleMeterRegistry());
+        userDetails = new CustomUserDetails(BenchmarkFixtures.user(1L), "USER");
+        claims = Map.of("role", "USER", "userId", 1L);
+        accessToken = jwtService.generateAccessToken(EMAIL, claims);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(EMAIL, claims);
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtService.validateAccessToken(jwtService.verifyToken(accessToken), userDetails);
+    }
+
+    @Benchmark
+    public boolean validateAccessTokenLegacy() {
+        String username = jwtService.extractUsername(accessToken);
+        TokenType tokenType = jwtService.extractTokenType(accessToken);
+        return username.equals(userDetails.getUsername())
+                && tokenType == TokenType.ACCESS
+                && !jwtService.isTokenExpired(accessToken);
+    }
+}
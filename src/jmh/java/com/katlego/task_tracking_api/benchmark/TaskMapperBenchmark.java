@@ -0,0 +1,41 @@
+package com.katlego.task_tracking_api.benchmark;
+
+import com.katlego.task_tracking_api.domain.Task;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.mapper.TaskMapper;
+import com.katlego.task_tracking_api.mapper.TaskMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    private TaskMapper taskMapper;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        taskMapper = new TaskMapperImpl();
+        task = BenchmarkFixtures.task(42L, BenchmarkFixtures.user(1L));
+    }
+
+    @Benchmark
+    public TaskResponse toTaskResponseFromModel() {
+        return taskMapper.toTaskResponseFromModel(task);
+    }
+}
@@ -0,0 +1,61 @@
+package com.katlego.task_tracking_api.benchmark;
+
+import com.katlego.task_tracking_api.domain.User;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.mapper.TaskMapper;
+import com.katlego.task_tracking_api.mapper.TaskMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JSON rendering of a search result page as returned by {@code GET /api/task/search}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskPageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private JsonMapper jsonMapper;
+    private Page<TaskResponse> page;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().findAndAddModules().build();
+
+        TaskMapper taskMapper = new TaskMapperImpl();
+        User assignee = BenchmarkFixtures.user(1L);
+        List<TaskResponse> content = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> taskMapper.toTaskResponseFromModel(BenchmarkFixtures.task(id, assignee)))
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("dueDate")), 10_000);
+    }
+
+    @Benchmark
+    public byte[] writePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,112 @@
+package com.katlego.task_tracking_api.benchmark;
+
+import com.katlego.task_tracking_api.domain.Role;
+import com.katlego.task_tracking_api.domain.Task;
+import com.katlego.task_tracking_api.domain.TaskStatus;
+import com.katlego.task_tracking_api.domain.User;
+import com.katlego.task_tracking_api.dto.task.TaskFilter;
+import com.katlego.task_tracking_api.repository.TaskSpecifications;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.Query;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The query-building part of {@code TaskService.getTasks}: composing the {@link Specification},
+ * turning it into a criteria query and handing that to Hibernate. Hibernate is bootstrapped
+ * without JDBC metadata access, so no database is needed and nothing is executed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSpecificationBenchmark {
+
+    @Param({"none", "status", "all"})
+    public String filterShape;
+
+    private TaskFilter filter;
+    private SessionFactory sessionFactory;
+    private Session session;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        filter = new TaskFilter();
+        if (!"none".equals(filterShape)) {
+            filter.setStatus(TaskStatus.IN_PROGRESS);
+        }
+        if ("all".equals(filterShape)) {
+            filter.setDueDateFrom(Instant.parse("2025-01-01T00:00:00Z"));
+            filter.setDueDateTo(Instant.parse("2025-12-31T00:00:00Z"));
+            filter.setAssignedUserId(1L);
+        }
+
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Role.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Task.class)
+                .setProperty("hibernate.dialect", PostgreSQLDialect.class.getName())
+                .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .setProperty("jakarta.persistence.validation.mode", "none")
+                .buildSessionFactory();
+        session = sessionFactory.openSession();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        session.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Specification<Task> assemble() {
+        return searchSpecification();
+    }
+
+    @Benchmark
+    public CriteriaQuery<Task> toCriteriaQuery() {
+        return criteriaQuery(searchSpecification());
+    }
+
+    @Benchmark
+    public Query<Task> createQuery() {
+        return session.createQuery(criteriaQuery(searchSpecification()));
+    }
+
+    private Specification<Task> searchSpecification() {
+        return TaskSpecifications.fromFilter(filter)
+                .and(TaskSpecifications.fetchAssignedUser());
+    }
+
+    private CriteriaQuery<Task> criteriaQuery(Specification<Task> spec) {
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        query.where(spec.toPredicate(root, query, criteriaBuilder));
+        return query;
+    }
+}
@@ -0,0 +1,80 @@
+package com.katlego.task_tracking_api.loadtest;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Minimal blocking client for the endpoints exercised by the load test.
+ */
+final class ApiClient {
+
+    record Tokens(String accessToken, String refreshToken) {
+    }
+
+    static final class UnexpectedStatusException extends IOException {
+        UnexpectedStatusException(String path, int status) {
+            super(path + " returned HTTP " + status);
+        }
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    ApiClient(URI baseUri, ExecutorService executor) {
+        this.baseUri = baseUri;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    Tokens login(String email, String password) throws IOException, InterruptedException {
+        return post("/api/auth/login", Map.of("email", email, "password", password));
+    }
+
+    Tokens refresh(String refreshToken) throws IOException, InterruptedException {
+        return post("/api/auth/refresh", Map.of("refreshToken", refreshToken));
+    }
+
+    /**
+     * Sends an authenticated GET and discards the body after reading it fully.
+     */
+    void get(String pathAndQuery, String accessToken) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        checkStatus(pathAndQuery, response);
+    }
+
+    private Tokens post(String path, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        checkStatus(path, response);
+        return jsonMapper.readValue(response.body(), Tokens.class);
+    }
+
+    private static void checkStatus(String path, HttpResponse<?> response) throws UnexpectedStatusException {
+        if (response.statusCode() / 100 != 2) {
+            throw new UnexpectedStatusException(path, response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.katlego.task_tracking_api.loadtest;
+
+import java.util.Arrays;
+
+enum Endpoint {
+    LOGIN("login", false),
+    REFRESH("refresh", false),
+    SEARCH("search", true),
+    MY_TASKS("my-tasks", false),
+    GET_TASK("get-task", false);
+
+    private final String name;
+    private final boolean adminOnly;
+
+    Endpoint(String name, boolean adminOnly) {
+        this.name = name;
+        this.adminOnly = adminOnly;
+    }
+
+    String displayName() {
+        return name;
+    }
+
+    boolean adminOnly() {
+        return adminOnly;
+    }
+
+    static Endpoint fromName(String name) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in loadtest.mix: " + name));
+    }
+}
@@ -0,0 +1,206 @@
+package com.katlego.task_tracking_api.loadtest;
+
+import com.katlego.task_tracking_api.loadtest.LoadTestConfig.LoadMode;
+import com.katlego.task_tracking_api.loadtest.SyntheticDataGenerator.Dataset;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the endpoint mix against a running application, on virtual threads.
+ * <p>
+ * Closed loop: {@code concurrency} workers each send a request as soon as their previous one
+ * returns, so throughput adapts to the server. Open loop: requests start on a fixed schedule of
+ * {@code rate} per second and latency is measured from the scheduled start, so time spent waiting
+ * behind a slow server is included (no coordinated omission).
+ */
+@Slf4j
+final class LoadGenerator {
+
+    private static final String[] SEARCH_STATUSES = {"NEW", "IN_PROGRESS", "COMPLETED", "DELAYED", "OVERDUE"};
+    private static final long SESSION_WAIT_SECONDS = 30;
+    private static final int INITIAL_LOGIN_THREADS = 8;
+
+    private final ApiClient client;
+    private final LoadTestConfig config;
+    private final Dataset dataset;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final BlockingQueue<LoadSession> userSessions;
+    private final BlockingQueue<LoadSession> adminSessions;
+
+    LoadGenerator(ApiClient client, LoadTestConfig config, Dataset dataset) {
+        this.client = client;
+        this.config = config;
+        this.dataset = dataset;
+
+        Map<Endpoint, Integer> mix = new EnumMap<>(config.mix());
+        if (dataset.admins() == 0 && mix.remove(Endpoint.SEARCH) != null) {
+            log.warn("No admin users generated; dropping search from the mix");
+        }
+        this.endpoints = mix.keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += mix.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+
+        // Enough sessions that workers rarely wait for one; spread across the whole user range.
+        int userSessionCount = Math.min(dataset.users(), Math.max(config.concurrency() * 2, 64));
+        this.userSessions = new ArrayBlockingQueue<>(Math.max(userSessionCount, 1));
+        for (int i = 0; i < userSessionCount; i++) {
+            userSessions.add(new LoadSession(dataset.userEmail((int) ((long) i * dataset.users() / userSessionCount)), false));
+        }
+        this.adminSessions = new ArrayBlockingQueue<>(Math.max(dataset.admins(), 1));
+        for (int i = 0; i < dataset.admins(); i++) {
+            adminSessions.add(new LoadSession(dataset.adminEmail(i), true));
+        }
+    }
+
+    LoadReport run(String label) {
+        loginAll();
+
+        log.info("Warming up for {} s", config.warmup().toSeconds());
+        drive(config.warmup(), new LoadReport(label + "-warmup"));
+
+        log.info("Measuring {} load for {} s", config.mode().name().toLowerCase(Locale.ROOT), config.duration().toSeconds());
+        LoadReport report = new LoadReport(label);
+        long started = System.nanoTime();
+        drive(config.duration(), report);
+        report.elapsed(Duration.ofNanos(System.nanoTime() - started));
+        return report;
+    }
+
+    private void drive(Duration duration, LoadReport report) {
+        if (config.mode() == LoadMode.OPEN) {
+            openLoop(duration, report);
+        } else {
+            closedLoop(duration, report);
+        }
+    }
+
+    private void closedLoop(Duration duration, LoadReport report) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        execute(nextEndpoint(), System.nanoTime(), report);
+                    }
+                });
+            }
+        }
+    }
+
+    private void openLoop(Duration duration, LoadReport report) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(config.ratePerSecond(), 1);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; ; n++) {
+                long scheduledStart = start + n * intervalNanos;
+                if (scheduledStart >= deadline) {
+                    break;
+                }
+                long wait = scheduledStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = nextEndpoint();
+                requests.submit(() -> execute(endpoint, scheduledStart, report));
+            }
+        }
+    }
+
+    private void execute(Endpoint endpoint, long startNanos, LoadReport report) {
+        BlockingQueue<LoadSession> sessions = endpoint.adminOnly() ? adminSessions : userSessions;
+        LoadSession session = null;
+        boolean failed = false;
+        try {
+            session = sessions.poll(SESSION_WAIT_SECONDS, TimeUnit.SECONDS);
+            if (session == null) {
+                failed = true;
+            } else {
+                call(endpoint, session);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            failed = true;
+            log.debug("{} failed: {}", endpoint.displayName(), e.getMessage());
+        } finally {
+            if (session != null) {
+                sessions.add(session);
+            }
+        }
+        report.record(endpoint, System.nanoTime() - startNanos, failed);
+    }
+
+    private void call(Endpoint endpoint, LoadSession session) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (endpoint) {
+            case LOGIN -> session.tokens(client.login(session.email(), config.password()));
+            case REFRESH -> session.tokens(client.refresh(session.refreshToken()));
+            case SEARCH -> client.get("/api/task/search?status=" + SEARCH_STATUSES[random.nextInt(SEARCH_STATUSES.length)]
+                    + "&page=" + random.nextInt(10)
+                    + "&size=20&sort=dueDate,desc"
+                    + "&withTotalCount=" + (random.nextInt(5) == 0), session.accessToken());
+            case MY_TASKS -> client.get("/api/task/my-tasks?size=50", session.accessToken());
+            case GET_TASK -> client.get("/api/task/" + dataset.taskId(random.nextLong(dataset.taskCount())),
+                    session.accessToken());
+        }
+    }
+
+    private Endpoint nextEndpoint() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    /**
+     * Logs every session in before measuring. Runs on a few threads so the initial burst stays
+     * within the password hashing queue instead of being rejected with 503.
+     */
+    private void loginAll() {
+        List<LoadSession> sessions = new ArrayList<>(userSessions);
+        sessions.addAll(adminSessions);
+        AtomicInteger failures = new AtomicInteger();
+
+        try (ExecutorService logins = Executors.newFixedThreadPool(INITIAL_LOGIN_THREADS)) {
+            for (LoadSession session : sessions) {
+                logins.submit(() -> {
+                    try {
+                        session.tokens(client.login(session.email(), config.password()));
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                        log.warn("Initial login failed for {}: {}", session.email(), e.getMessage());
+                    }
+                });
+            }
+        }
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " of " + sessions.size() + " initial logins failed");
+        }
+        log.info("Logged in {} session(s)", sessions.size());
+    }
+}
@@ -0,0 +1,123 @@
+package com.katlego.task_tracking_api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microseconds) and error counts for one measured run.
+ */
+final class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final String label;
+    private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private volatile Duration elapsed = Duration.ZERO;
+
+    LoadReport(String label) {
+        this.label = label;
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    String label() {
+        return label;
+    }
+
+    void record(Endpoint endpoint, long latencyNanos, boolean failed) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        latencies.get(endpoint).recordValue(Math.max(micros, 1));
+        if (failed) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    void elapsed(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    double throughput(Endpoint endpoint) {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : latencies.get(endpoint).getTotalCount() / seconds;
+    }
+
+    double percentileMillis(Endpoint endpoint, double percentile) {
+        return latencies.get(endpoint).getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%n== %s (%d s) ==%n", label, elapsed.toSeconds());
+        out.printf(Locale.ROOT, "%-10s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        long totalRequests = 0;
+        double totalThroughput = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = latencies.get(endpoint);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            totalRequests += histogram.getTotalCount();
+            totalThroughput += throughput(endpoint);
+            out.printf(Locale.ROOT, "%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.displayName(), histogram.getTotalCount(), errors.get(endpoint).sum(),
+                    throughput(endpoint),
+                    percentileMillis(endpoint, 50), percentileMillis(endpoint, 90),
+                    percentileMillis(endpoint, 99), percentileMillis(endpoint, 99.9),
+                    histogram.getMaxValue() / 1000.0);
+        }
+        out.printf(Locale.ROOT, "%-10s %10d %8s %10.1f%n", "total", totalRequests, "", totalThroughput);
+    }
+
+    /**
+     * Writes one HdrHistogram percentile distribution ({@code .hgrm}, values in milliseconds) per
+     * endpoint plus the printed summary.
+     */
+    void write(Path directory) throws IOException {
+        Path runDirectory = directory.resolve(label);
+        Files.createDirectories(runDirectory);
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = latencies.get(endpoint);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(runDirectory.resolve(endpoint.displayName() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(runDirectory.resolve("summary.txt")))) {
+            print(out);
+        }
+    }
+
+    static void printComparison(PrintStream out, LoadReport baseline, LoadReport candidate) {
+        out.printf(Locale.ROOT, "%n== %s vs %s ==%n", candidate.label(), baseline.label());
+        out.printf(Locale.ROOT, "%-10s %12s %12s %12s %12s%n",
+                "endpoint", baseline.label() + " req/s", candidate.label() + " req/s",
+                baseline.label() + " p99", candidate.label() + " p99");
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (baseline.latencies.get(endpoint).getTotalCount() == 0) {
+                continue;
+            }
+            out.printf(Locale.ROOT, "%-10s %12.1f %12.1f %12.2f %12.2f%n", endpoint.displayName(),
+                    baseline.throughput(endpoint), candidate.throughput(endpoint),
+                    baseline.percentileMillis(endpoint, 99), candidate.percentileMillis(endpoint, 99));
+        }
+    }
+}
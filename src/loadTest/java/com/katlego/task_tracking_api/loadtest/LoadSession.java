@@ -0,0 +1,38 @@
+package com.katlego.task_tracking_api.loadtest;
+
+/**
+ * A logged-in virtual user. Sessions are borrowed exclusively for each request, so token
+ * rotation on refresh never races with another request using the same refresh token.
+ */
+final class LoadSession {
+    private final String email;
+    private final boolean admin;
+    private String accessToken;
+    private String refreshToken;
+
+    LoadSession(String email, boolean admin) {
+        this.email = email;
+        this.admin = admin;
+    }
+
+    String email() {
+        return email;
+    }
+
+    boolean admin() {
+        return admin;
+    }
+
+    String accessToken() {
+        return accessToken;
+    }
+
+    String refreshToken() {
+        return refreshToken;
+    }
+
+    void tokens(ApiClient.Tokens tokens) {
+        this.accessToken = tokens.accessToken();
+        this.refreshToken = tokens.refreshToken();
+    }
+}
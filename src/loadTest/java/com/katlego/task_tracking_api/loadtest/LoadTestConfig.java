@@ -0,0 +1,83 @@
+package com.katlego.task_tracking_api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties (the Gradle task forwards
+ * {@code -Ploadtest.*} project properties).
+ */
+record LoadTestConfig(
+        int users,
+        int admins,
+        int tasks,
+        String password,
+        LoadMode mode,
+        int concurrency,
+        int ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        Map<Endpoint, Integer> mix,
+        ThreadMode threads,
+        Path dataDirectory,
+        Path reportDirectory
+) {
+
+    enum LoadMode {
+        /** A fixed number of workers, each sending its next request once the previous one returns. */
+        CLOSED,
+        /** Requests start at a fixed rate regardless of response times; latency includes queueing. */
+        OPEN
+    }
+
+    enum ThreadMode {
+        PLATFORM, VIRTUAL, COMPARE
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intProperty("users", 5_000),
+                intProperty("admins", 20),
+                intProperty("tasks", 1_000_000),
+                property("password", "LoadTest#2025"),
+                LoadMode.valueOf(property("mode", "closed").toUpperCase(Locale.ROOT)),
+                intProperty("concurrency", 64),
+                intProperty("rate", 500),
+                Duration.ofSeconds(intProperty("warmup-seconds", 15)),
+                Duration.ofSeconds(intProperty("duration-seconds", 60)),
+                parseMix(property("mix", "login=5,refresh=5,search=15,my-tasks=40,get-task=35")),
+                ThreadMode.valueOf(property("threads", "platform").toUpperCase(Locale.ROOT)),
+                Path.of(property("data-dir", "build/loadtest/pgdata")),
+                Path.of(property("report-dir", "build/reports/loadtest"))
+        );
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.fromName(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no endpoint with a positive weight");
+        }
+        return weights;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,106 @@
+package com.katlego.task_tracking_api.loadtest;
+
+import com.katlego.task_tracking_api.TaskTrackingApiApplication;
+import com.katlego.task_tracking_api.loadtest.LoadTestConfig.ThreadMode;
+import com.katlego.task_tracking_api.loadtest.SyntheticDataGenerator.Dataset;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Entry point of {@code ./gradlew loadTest}. Starts an embedded PostgreSQL (no Docker, no
+ * network), boots the application against it on a random port, generates the synthetic dataset
+ * and runs the configured load. With {@code loadtest.threads=compare} the same load runs once on
+ * platform and once on virtual request threads, against the same data.
+ * <p>
+ * Properties named {@code loadtest.app.<key>} are passed to the application as {@code --<key>}.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final String APP_PROPERTY_PREFIX = "loadtest.app.";
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Files.createDirectories(config.dataDirectory());
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setDataDirectory(config.dataDirectory())
+                .setCleanDataDirectory(false)
+                .start()) {
+
+            Dataset dataset = null;
+            List<LoadReport> reports = new ArrayList<>();
+
+            for (boolean virtualThreads : threadModes(config.threads())) {
+                String label = (virtualThreads ? "virtual" : "platform") + "-" + config.mode().name().toLowerCase(Locale.ROOT);
+
+                try (ConfigurableApplicationContext application = startApplication(postgres, virtualThreads)) {
+                    if (dataset == null) {
+                        dataset = new SyntheticDataGenerator(postgres.getPostgresDatabase()).generate(config);
+                    }
+                    int port = application.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+                    try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                        ApiClient client = new ApiClient(URI.create("http://localhost:" + port), clientExecutor);
+                        LoadReport report = new LoadGenerator(client, config, dataset).run(label);
+                        report.print(System.out);
+                        report.write(config.reportDirectory());
+                        reports.add(report);
+                    }
+                }
+            }
+
+            if (reports.size() == 2) {
+                LoadReport.printComparison(System.out, reports.get(0), reports.get(1));
+            }
+            log.info("Reports written to {}", config.reportDirectory().toAbsolutePath());
+        }
+    }
+
+    private static boolean[] threadModes(ThreadMode threadMode) {
+        return switch (threadMode) {
+            case PLATFORM -> new boolean[]{false};
+            case VIRTUAL -> new boolean[]{true};
+            case COMPARE -> new boolean[]{false, true};
+        };
+    }
+
+    private static ConfigurableApplicationContext startApplication(EmbeddedPostgres postgres, boolean virtualThreads) {
+        List<String> arguments = new ArrayList<>(List.of(
+                // Any profile other than "local", which turns on SQL logging.
+                "--spring.profiles.active=loadtest",
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--spring.sql.init.mode=never",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--app.jwt.secret=load-test-secret-that-is-long-enough-for-hs256-signing",
+                "--app.auth.throttle.enabled=false",
+                "--logging.level.com.katlego.task_tracking_api=WARN",
+                "--logging.level.com.katlego.task_tracking_api.loadtest=INFO"
+        ));
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APP_PROPERTY_PREFIX))
+                .sorted()
+                .forEach(name -> arguments.add("--" + name.substring(APP_PROPERTY_PREFIX.length())
+                        + "=" + System.getProperty(name)));
+
+        log.info("Starting application with {} threads", virtualThreads ? "virtual" : "platform");
+        return new SpringApplicationBuilder(TaskTrackingApiApplication.class)
+                .run(arguments.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,202 @@
+package com.katlego.task_tracking_api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.SplittableRandom;
+
+/**
+ * Fills an already migrated database with users and tasks using {@code COPY ... FROM STDIN}, which
+ * loads millions of rows in seconds. Ids are written explicitly (users and tasks start at 1) and
+ * the sequences are moved past them afterwards, so the application keeps allocating fresh ids.
+ * <p>
+ * A matching dataset from a previous run (same data directory) is reused as is.
+ */
+@Slf4j
+final class SyntheticDataGenerator {
+
+    record Dataset(int users, int admins, long taskCount) {
+
+        String userEmail(int index) {
+            return "load-user-" + index + "@example.com";
+        }
+
+        String adminEmail(int index) {
+            return "load-admin-" + index + "@example.com";
+        }
+
+        /** Task ids are dense: 1..taskCount. */
+        long taskId(long index) {
+            return index + 1;
+        }
+    }
+
+    private static final String[] STATUSES = {"NEW", "IN_PROGRESS", "COMPLETED", "DELAYED", "OVERDUE"};
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int FLUSH_CHARS = 1 << 20;
+
+    private final DataSource dataSource;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    SyntheticDataGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    Dataset generate(LoadTestConfig config) throws SQLException {
+        Dataset dataset = new Dataset(config.users(), config.admins(), config.tasks());
+
+        try (Connection connection = dataSource.getConnection()) {
+            if (matches(connection, dataset)) {
+                log.info("Reusing existing dataset: {} users, {} admins, {} tasks",
+                        dataset.users(), dataset.admins(), dataset.taskCount());
+                return dataset;
+            }
+
+            long started = System.nanoTime();
+            execute(connection, "TRUNCATE tasks, refresh_tokens, users RESTART IDENTITY CASCADE");
+
+            String passwordHash = new BCryptPasswordEncoder(10).encode(config.password());
+            long userRoleId = roleId(connection, "USER");
+            long adminRoleId = roleId(connection, "ADMIN");
+            copyUsers(connection, dataset, passwordHash, userRoleId, adminRoleId);
+            copyTasks(connection, dataset);
+
+            execute(connection, "SELECT setval('users_id_seq', " + (dataset.users() + dataset.admins()) + ")");
+            execute(connection, "SELECT setval('tasks_id_seq', " + Math.max(dataset.taskCount(), 1) + ")");
+            execute(connection, "ANALYZE users");
+            execute(connection, "ANALYZE tasks");
+
+            log.info("Generated {} users, {} admins and {} tasks in {} s", dataset.users(), dataset.admins(),
+                    dataset.taskCount(), (System.nanoTime() - started) / 1_000_000_000);
+        }
+        return dataset;
+    }
+
+    private boolean matches(Connection connection, Dataset dataset) throws SQLException {
+        return queryLong(connection, "SELECT count(*) FROM users WHERE email LIKE 'load-user-%'") == dataset.users()
+                && queryLong(connection, "SELECT count(*) FROM users WHERE email LIKE 'load-admin-%'") == dataset.admins()
+                && queryLong(connection, "SELECT count(*) FROM tasks") == dataset.taskCount();
+    }
+
+    /**
+     * Users get ids 1..users, admins follow; every account shares the same password hash.
+     */
+    private void copyUsers(Connection connection, Dataset dataset, String passwordHash,
+                           long userRoleId, long adminRoleId) throws SQLException {
+        String createdAt = timestamp(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        CopyIn copy = copyIn(connection,
+                "COPY users (id, username, email, password_hash, role_id, created_at) FROM STDIN");
+        StringBuilder rows = new StringBuilder(FLUSH_CHARS + 1024);
+        long id = 1;
+
+        for (int i = 0; i < dataset.users(); i++, id++) {
+            appendUser(rows, id, "load-user-" + i, dataset.userEmail(i), passwordHash, userRoleId, createdAt);
+            flushIfFull(copy, rows);
+        }
+        for (int i = 0; i < dataset.admins(); i++, id++) {
+            appendUser(rows, id, "load-admin-" + i, dataset.adminEmail(i), passwordHash, adminRoleId, createdAt);
+            flushIfFull(copy, rows);
+        }
+        finish(copy, rows);
+    }
+
+    /**
+     * Tasks spread over the last year with due dates up to two months after creation; one in ten is
+     * unassigned and the rest go to random non-admin users.
+     */
+    private void copyTasks(Connection connection, Dataset dataset) throws SQLException {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        long yearSeconds = ChronoUnit.DAYS.getDuration().toSeconds() * 365;
+        long twoMonthSeconds = ChronoUnit.DAYS.getDuration().toSeconds() * 60;
+
+        CopyIn copy = copyIn(connection,
+                "COPY tasks (id, title, description, status, due_date, created_date, assigned_user_id) FROM STDIN");
+        StringBuilder rows = new StringBuilder(FLUSH_CHARS + 1024);
+
+        for (long i = 0; i < dataset.taskCount(); i++) {
+            long id = dataset.taskId(i);
+            Instant created = now.minusSeconds(random.nextLong(yearSeconds));
+            Instant due = created.plusSeconds(random.nextLong(twoMonthSeconds));
+
+            rows.append(id).append('\t')
+                    .append("Task ").append(id).append('\t')
+                    .append("Synthetic task ").append(id).append(" generated for load testing").append('\t')
+                    .append(STATUSES[random.nextInt(STATUSES.length)]).append('\t')
+                    .append(timestamp(due)).append('\t')
+                    .append(timestamp(created)).append('\t');
+            if (dataset.users() == 0 || random.nextInt(10) == 0) {
+                rows.append("\\N");
+            } else {
+                rows.append(1 + random.nextInt(dataset.users()));
+            }
+            rows.append('\n');
+            flushIfFull(copy, rows);
+        }
+        finish(copy, rows);
+    }
+
+    private static void appendUser(StringBuilder rows, long id, String username, String email,
+                                   String passwordHash, long roleId, String createdAt) {
+        rows.append(id).append('\t')
+                .append(username).append('\t')
+                .append(email).append('\t')
+                .append(passwordHash).append('\t')
+                .append(roleId).append('\t')
+                .append(createdAt).append('\n');
+    }
+
+    private static CopyIn copyIn(Connection connection, String sql) throws SQLException {
+        return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+    }
+
+    private static void flushIfFull(CopyIn copy, StringBuilder rows) throws SQLException {
+        if (rows.length() >= FLUSH_CHARS) {
+            write(copy, rows);
+        }
+    }
+
+    private static void finish(CopyIn copy, StringBuilder rows) throws SQLException {
+        write(copy, rows);
+        copy.endCopy();
+    }
+
+    private static void write(CopyIn copy, StringBuilder rows) throws SQLException {
+        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        rows.setLength(0);
+    }
+
+    private static long roleId(Connection connection, String name) throws SQLException {
+        return queryLong(connection, "SELECT id FROM roles WHERE name = '" + name + "'");
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String timestamp(Instant instant) {
+        return TIMESTAMP.format(LocalDateTime.ofInstant(instant, ZoneOffset.UTC));
+    }
+}
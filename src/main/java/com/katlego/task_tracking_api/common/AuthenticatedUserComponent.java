@@ -3,6 +3,7 @@ package com.katlego.task_tracking_api.common;
 import com.katlego.task_tracking_api.domain.User;
 import com.katlego.task_tracking_api.exception.ResourceNotFoundException;
 import com.katlego.task_tracking_api.repository.UserRepository;
+import com.katlego.task_tracking_api.security.entity.CustomUserDetails;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -11,21 +12,15 @@ import org.springframework.stereotype.Component;
 @Component
 public class AuthenticatedUserComponent {
     private final UserRepository userRepository;
+    private final RoleRegistry roleRegistry;
 
-    public AuthenticatedUserComponent(UserRepository userRepository) {
+    public AuthenticatedUserComponent(UserRepository userRepository, RoleRegistry roleRegistry) {
         this.userRepository = userRepository;
+        this.roleRegistry = roleRegistry;
     }
 
     public User getCurrentLoggedInUser() {
-        Authentication authentication =
-                SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new AuthenticationException("No authenticated user") {
-            };
-        }
-
-        String email = authentication.getName();
+        String email = getCurrentAuthentication().getName();
 
         return userRepository.findByEmail(email)
                 .orElseThrow(() ->
@@ -33,7 +28,37 @@ public class AuthenticatedUserComponent {
                                 "User with email " + email + " not found"));
     }
 
+    /**
+     * Resolves the current user's id from the security principal, only querying
+     * the database when the principal does not carry it.
+     */
+    public Long getCurrentUserId() {
+        if (getCurrentAuthentication().getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getId() != null) {
+            return userDetails.getId();
+        }
+
+        return getCurrentLoggedInUser().getId();
+    }
+
     public boolean isAdmin() {
-        return "ADMIN".equals(getCurrentLoggedInUser().getRole().getName());
+        if (getCurrentAuthentication().getPrincipal() instanceof CustomUserDetails userDetails
+                && userDetails.getRole() != null) {
+            return "ADMIN".equals(userDetails.getRole());
+        }
+
+        return "ADMIN".equals(roleRegistry.nameOf(getCurrentLoggedInUser().getRole().getId()));
+    }
+
+    private Authentication getCurrentAuthentication() {
+        Authentication authentication =
+                SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new AuthenticationException("No authenticated user") {
+            };
+        }
+
+        return authentication;
     }
 }
@@ -0,0 +1,62 @@
+package com.katlego.task_tracking_api.common;
+
+import com.katlego.task_tracking_api.domain.Role;
+import com.katlego.task_tracking_api.repository.RoleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory copy of the roles table (seeded in V5), loaded at startup so role
+ * resolution on hot paths never queries the database. Call {@link #refresh()} after changing
+ * roles directly in the database.
+ */
+@Slf4j
+@Component
+public class RoleRegistry {
+
+    private final RoleRepository roleRepository;
+    private volatile Map<Long, String> namesById = Map.of();
+    private volatile Map<String, Long> idsByName = Map.of();
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+        refresh();
+    }
+
+    public synchronized void refresh() {
+        Map<Long, String> loaded = roleRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Role::getId, Role::getName));
+
+        idsByName = loaded.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getValue, Map.Entry::getKey));
+        namesById = loaded;
+        log.info("Loaded {} role(s): {}", loaded.size(), idsByName.keySet());
+    }
+
+    /**
+     * Returns a detached {@link Role} that can be assigned to a {@link com.katlego.task_tracking_api.domain.User};
+     * only its id is written to the users table.
+     */
+    public Role reference(String name) {
+        Long id = idsByName.get(name);
+        if (id == null) {
+            throw new IllegalStateException("Role not configured: " + name);
+        }
+        return new Role(id, name);
+    }
+
+    /**
+     * Resolves a role name by id. Reading the id of a lazy {@code User.role} does not load it,
+     * so {@code nameOf(user.getRole().getId())} costs no query.
+     */
+    public String nameOf(Long roleId) {
+        String name = namesById.get(roleId);
+        if (name == null) {
+            throw new IllegalStateException("Unknown role id: " + roleId);
+        }
+        return name;
+    }
+}
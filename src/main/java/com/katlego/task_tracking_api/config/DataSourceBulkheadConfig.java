@@ -0,0 +1,55 @@
+package com.katlego.task_tracking_api.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Wraps the application DataSource in a {@link BulkheadDataSource}. Enabled together with virtual
+ * threads by default; the permit count follows the Hikari pool size unless set explicitly.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.bulkhead.enabled", havingValue = "true")
+public class DataSourceBulkheadConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceBulkheadPostProcessor(Environment environment) {
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        int permits = environment.getProperty("app.datasource.bulkhead.permits", Integer.class, poolSize);
+        long acquireTimeoutMs = environment.getProperty("app.datasource.bulkhead.acquire-timeout-ms", Long.class, 5000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                    return new BulkheadDataSource(dataSource, permits, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder dataSourceBulkheadMetrics(DataSource dataSource) throws SQLException {
+        BulkheadDataSource bulkhead = dataSource.unwrap(BulkheadDataSource.class);
+        return registry -> {
+            Gauge.builder("datasource.bulkhead.available", bulkhead, BulkheadDataSource::getAvailablePermits)
+                    .description("Connection permits currently free")
+                    .register(registry);
+            Gauge.builder("datasource.bulkhead.waiting", bulkhead, BulkheadDataSource::getWaitingThreads)
+                    .description("Threads waiting for a connection permit")
+                    .register(registry);
+            FunctionCounter.builder("datasource.bulkhead.rejected", bulkhead, BulkheadDataSource::getRejectedCount)
+                    .description("Connection requests that timed out waiting for a permit")
+                    .register(registry);
+        };
+    }
+}
@@ -8,6 +8,7 @@ import com.katlego.task_tracking_api.dto.auth.SignupRequest;
 import com.katlego.task_tracking_api.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -47,7 +48,9 @@ public class AuthController {
             summary = ApiDocs.AuthApi.LOGIN_SUMMARY,
             description = ApiDocs.AuthApi.LOGIN_DESC
     )
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        return new ResponseEntity<>(authService.login(request), HttpStatus.OK);
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+        // Tomcat's RemoteIpValve (server.forward-headers-strategy) has already replaced the address of a
+        // trusted proxy with the client's from X-Forwarded-For.
+        return new ResponseEntity<>(authService.login(request, httpRequest.getRemoteAddr()), HttpStatus.OK);
     }
 }
@@ -3,20 +3,34 @@ package com.katlego.task_tracking_api.controller;
 import com.katlego.task_tracking_api.docs.ApiDocs;
 import com.katlego.task_tracking_api.domain.TaskStatus;
 import com.katlego.task_tracking_api.dto.task.TaskAssignRequest;
+import com.katlego.task_tracking_api.dto.task.TaskBulkAssignRequest;
+import com.katlego.task_tracking_api.dto.task.TaskBulkCreateRequest;
+import com.katlego.task_tracking_api.dto.task.TaskBulkUpdateRequest;
+import com.katlego.task_tracking_api.dto.task.TaskChangePage;
+import com.katlego.task_tracking_api.dto.task.TaskCursorPage;
 import com.katlego.task_tracking_api.dto.task.TaskDeleteResponse;
+import com.katlego.task_tracking_api.dto.task.TaskExportFormat;
 import com.katlego.task_tracking_api.dto.task.TaskFilter;
 import com.katlego.task_tracking_api.dto.task.TaskRequest;
 import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.service.TaskChangeService;
+import com.katlego.task_tracking_api.service.TaskExportService;
 import com.katlego.task_tracking_api.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.data.domain.Page;
+import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.Instant;
 import java.util.List;
@@ -26,9 +40,13 @@ import java.util.List;
 @Tag(name = ApiDocs.TaskApi.TAG)
 public class TaskController {
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskChangeService taskChangeService;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExportService taskExportService, TaskChangeService taskChangeService) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskChangeService = taskChangeService;
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -38,7 +56,8 @@ public class TaskController {
             description = ApiDocs.TaskApi.CREATE_TASK_DESC
     )
     public ResponseEntity<TaskResponse> createTask(@RequestBody TaskRequest request){
-        return new ResponseEntity<>(taskService.createTask(request), HttpStatus.CREATED);
+        TaskResponse task = taskService.createTask(request);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(TaskETags.of(task)).body(task);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -47,8 +66,43 @@ public class TaskController {
             summary = ApiDocs.TaskApi.UPDATE_TASK_SUMMARY,
             description = ApiDocs.TaskApi.UPDATE_TASK_DESC
     )
-    public ResponseEntity<TaskResponse> updateTask(@RequestBody TaskRequest request, @PathVariable Long id){
-        return new ResponseEntity<>(taskService.updateTask(id, request), HttpStatus.OK);
+    public ResponseEntity<TaskResponse> updateTask(
+            @RequestBody TaskRequest request,
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ){
+        TaskResponse task = taskService.updateTask(id, request, TaskETags.expectedVersions(id, ifMatch));
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/create")
+    @Operation(
+            summary = ApiDocs.TaskApi.BULK_CREATE_TASKS_SUMMARY,
+            description = ApiDocs.TaskApi.BULK_CREATE_TASKS_DESC
+    )
+    public ResponseEntity<List<TaskResponse>> createTasks(@Valid @RequestBody TaskBulkCreateRequest request){
+        return new ResponseEntity<>(taskService.createTasks(request.getTasks()), HttpStatus.CREATED);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/bulk/update")
+    @Operation(
+            summary = ApiDocs.TaskApi.BULK_UPDATE_TASKS_SUMMARY,
+            description = ApiDocs.TaskApi.BULK_UPDATE_TASKS_DESC
+    )
+    public ResponseEntity<List<TaskResponse>> updateTasks(@Valid @RequestBody TaskBulkUpdateRequest request){
+        return new ResponseEntity<>(taskService.updateTasks(request.getTasks()), HttpStatus.OK);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bulk/assign")
+    @Operation(
+            summary = ApiDocs.TaskApi.BULK_ASSIGN_TASKS_SUMMARY,
+            description = ApiDocs.TaskApi.BULK_ASSIGN_TASKS_DESC
+    )
+    public ResponseEntity<List<TaskResponse>> assignTasks(@Valid @RequestBody TaskBulkAssignRequest request){
+        return new ResponseEntity<>(taskService.assignTasks(request.getAssignments()), HttpStatus.OK);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -57,30 +111,57 @@ public class TaskController {
             summary = ApiDocs.TaskApi.SEARCH_TASKS_SUMMARY,
             description = ApiDocs.TaskApi.SEARCH_TASKS_DESC
     )
-    public ResponseEntity<Page<TaskResponse>> getTasks(
+    public ResponseEntity<Slice<TaskResponse>> getTasks(
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant dueDateFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant dueDateTo,
             @RequestParam(required = false) Long assignedUserId,
+            @RequestParam(defaultValue = "true") boolean withTotalCount,
             Pageable pageable
     ){
-        TaskFilter filter = new TaskFilter();
-        filter.setStatus(status);
-        filter.setDueDateFrom(dueDateFrom);
-        filter.setDueDateTo(dueDateTo);
-        filter.setAssignedUserId(assignedUserId);
+        TaskFilter filter = toFilter(status, dueDateFrom, dueDateTo, assignedUserId);
 
+        if (!withTotalCount) {
+            return new ResponseEntity<>(taskService.getTaskSlice(filter, pageable), HttpStatus.OK);
+        }
         return new ResponseEntity<>(taskService.getTasks(filter, pageable), HttpStatus.OK);
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/export")
+    @Operation(
+            summary = ApiDocs.TaskApi.EXPORT_TASKS_SUMMARY,
+            description = ApiDocs.TaskApi.EXPORT_TASKS_DESC
+    )
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant dueDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant dueDateTo,
+            @RequestParam(required = false) Long assignedUserId,
+            @RequestParam(defaultValue = "NDJSON") TaskExportFormat format
+    ){
+        TaskFilter filter = toFilter(status, dueDateFrom, dueDateTo, assignedUserId);
+        StreamingResponseBody body = outputStream -> taskExportService.exportTasks(filter, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks." + format.getFileExtension())
+                .body(body);
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/{id}/assign")
     @Operation(
             summary = ApiDocs.TaskApi.ASSIGN_TASK_SUMMARY,
             description = ApiDocs.TaskApi.ASSIGN_TASK_DESC
     )
-    public ResponseEntity<TaskResponse> assignTask(@PathVariable Long id, @RequestBody TaskAssignRequest request){
-        return new ResponseEntity<>(taskService.assignTask(id, request), HttpStatus.OK);
+    public ResponseEntity<TaskResponse> assignTask(
+            @PathVariable Long id,
+            @RequestBody TaskAssignRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ){
+        TaskResponse task = taskService.assignTask(id, request, TaskETags.expectedVersions(id, ifMatch));
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     @GetMapping("/{id}")
@@ -88,8 +169,14 @@ public class TaskController {
             summary = ApiDocs.TaskApi.GET_TASK_BY_ID_SUMMARY,
             description = ApiDocs.TaskApi.GET_TASK_BY_ID_DESC
     )
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id){
-        return new ResponseEntity<>(taskService.getTaskById(id), HttpStatus.OK);
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest webRequest){
+        // A matching If-None-Match is answered with 304 from the version alone, before the task is loaded or mapped.
+        if (webRequest.checkNotModified(TaskETags.of(id, taskService.getTaskVersion(id)))) {
+            return null;
+        }
+
+        TaskResponse task = taskService.getTaskById(id);
+        return ResponseEntity.ok().eTag(TaskETags.of(task)).body(task);
     }
 
     @GetMapping("/my-tasks")
@@ -97,8 +184,32 @@ public class TaskController {
             summary = ApiDocs.TaskApi.GET_MY_TASKS_SUMMARY,
             description = ApiDocs.TaskApi.GET_MY_TASKS_DESC
     )
-    public ResponseEntity<List<TaskResponse>> getAllMyAssignedTasks(){
-        return new ResponseEntity<>(taskService.getAllMyAssignedTasks(),HttpStatus.OK);
+    public ResponseEntity<TaskCursorPage> getAllMyAssignedTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ){
+        return new ResponseEntity<>(taskService.getAllMyAssignedTasks(cursor, size),HttpStatus.OK);
+    }
+
+    @GetMapping("/changes")
+    @Operation(
+            summary = ApiDocs.TaskApi.GET_MY_TASK_CHANGES_SUMMARY,
+            description = ApiDocs.TaskApi.GET_MY_TASK_CHANGES_DESC
+    )
+    public ResponseEntity<TaskChangePage> getMyTaskChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size
+    ){
+        return new ResponseEntity<>(taskChangeService.getMyTaskChanges(since, size), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = ApiDocs.TaskApi.STREAM_MY_TASKS_SUMMARY,
+            description = ApiDocs.TaskApi.STREAM_MY_TASKS_DESC
+    )
+    public SseEmitter streamMyTaskEvents(){
+        return taskService.streamMyTaskEvents();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -107,8 +218,11 @@ public class TaskController {
             summary = ApiDocs.TaskApi.GET_ALL_TASKS_SUMMARY,
             description = ApiDocs.TaskApi.GET_ALL_TASKS_DESC
     )
-    public ResponseEntity<List<TaskResponse>> getAllTasks(){
-        return new ResponseEntity<>(taskService.getAllTasks(),HttpStatus.OK);
+    public ResponseEntity<TaskCursorPage> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ){
+        return new ResponseEntity<>(taskService.getAllTasks(cursor, size),HttpStatus.OK);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -120,4 +234,13 @@ public class TaskController {
     public ResponseEntity<TaskDeleteResponse> deleteTask(@PathVariable Long id){
         return new ResponseEntity<>(taskService.deleteTaskById(id), HttpStatus.OK);
     }
+
+    private TaskFilter toFilter(TaskStatus status, Instant dueDateFrom, Instant dueDateTo, Long assignedUserId) {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(status);
+        filter.setDueDateFrom(dueDateFrom);
+        filter.setDueDateTo(dueDateTo);
+        filter.setAssignedUserId(assignedUserId);
+        return filter;
+    }
 }
@@ -0,0 +1,62 @@
+package com.katlego.task_tracking_api.controller;
+
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.exception.PreconditionFailedException;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Strong ETags for tasks, {@code "<id>-<version>"}. The version changes on every update, so the
+ * tag changes whenever the representation can.
+ */
+public final class TaskETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private TaskETags() {
+    }
+
+    public static String of(TaskResponse task) {
+        return of(task.getId(), task.getVersion());
+    }
+
+    public static String of(Long taskId, long version) {
+        return "\"" + taskId + "-" + version + "\"";
+    }
+
+    /**
+     * The versions an {@code If-Match} header accepts, or {@code null} when the header is absent or
+     * contains {@code *}. The header may list several tags; entries that are not ETags of this task
+     * are ignored, and a header with none at all can never match. Weak tags are accepted too, since
+     * proxies that compress responses turn the strong tags into weak ones.
+     */
+    public static Set<Long> expectedVersions(Long taskId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        String prefix = "\"" + taskId + "-";
+        Set<Long> versions = new HashSet<>();
+        for (String entry : ifMatch.split(",")) {
+            String value = entry.trim();
+            if (value.equals("*")) {
+                return null;
+            }
+            if (value.startsWith(WEAK_PREFIX)) {
+                value = value.substring(WEAK_PREFIX.length());
+            }
+            if (value.startsWith(prefix) && value.endsWith("\"") && value.length() > prefix.length() + 1) {
+                try {
+                    versions.add(Long.parseLong(value.substring(prefix.length(), value.length() - 1)));
+                } catch (NumberFormatException ignored) {
+                    // not a tag of this task
+                }
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException("If-Match does not match the current version of task " + taskId + ".");
+        }
+        return versions;
+    }
+}
@@ -22,22 +22,40 @@ public class ApiDocs {
         public static final String CREATE_TASK_DESC = "Creates a new task. Admin only.";
 
         public static final String UPDATE_TASK_SUMMARY = "Update task";
-        public static final String UPDATE_TASK_DESC = "Updates an existing task by id. Admin only.";
+        public static final String UPDATE_TASK_DESC = "Updates an existing task by id. Send the ETag from a previous response in If-Match to get 412 instead of overwriting a newer version. Admin only.";
 
         public static final String SEARCH_TASKS_SUMMARY = "Search tasks";
-        public static final String SEARCH_TASKS_DESC = "Returns tasks filtered by status, due date, and assignee with pagination. Admin only.";
+        public static final String SEARCH_TASKS_DESC = "Returns tasks filtered by status, due date, and assignee with pagination. Pass withTotalCount=false to skip the total count query. Admin only.";
+
+        public static final String EXPORT_TASKS_SUMMARY = "Export tasks";
+        public static final String EXPORT_TASKS_DESC = "Streams all tasks matching the search filters as NDJSON or CSV. Admin only.";
 
         public static final String ASSIGN_TASK_SUMMARY = "Assign task";
-        public static final String ASSIGN_TASK_DESC = "Assigns a task to a user. Admin only.";
+        public static final String ASSIGN_TASK_DESC = "Assigns a task to a user. Supports If-Match like update. Admin only.";
+
+        public static final String BULK_CREATE_TASKS_SUMMARY = "Create tasks in bulk";
+        public static final String BULK_CREATE_TASKS_DESC = "Creates up to 1000 tasks in one transaction. Admin only.";
+
+        public static final String BULK_UPDATE_TASKS_SUMMARY = "Update tasks in bulk";
+        public static final String BULK_UPDATE_TASKS_DESC = "Updates up to 1000 tasks by id in one transaction. Admin only.";
+
+        public static final String BULK_ASSIGN_TASKS_SUMMARY = "Assign tasks in bulk";
+        public static final String BULK_ASSIGN_TASKS_DESC = "Assigns up to 1000 tasks to users in one transaction. Admin only.";
 
         public static final String GET_TASK_BY_ID_SUMMARY = "Get task by id";
-        public static final String GET_TASK_BY_ID_DESC = "Returns details of a single task by id.";
+        public static final String GET_TASK_BY_ID_DESC = "Returns details of a single task by id with a strong ETag. Send it back in If-None-Match to get 304 Not Modified when the task has not changed.";
 
         public static final String GET_MY_TASKS_SUMMARY = "Get my tasks";
-        public static final String GET_MY_TASKS_DESC = "Returns tasks assigned to the authenticated user.";
+        public static final String GET_MY_TASKS_DESC = "Returns tasks assigned to the authenticated user, newest first, one page at a time. Pass the returned nextCursor to fetch the next page.";
+
+        public static final String GET_MY_TASK_CHANGES_SUMMARY = "Get my task changes";
+        public static final String GET_MY_TASK_CHANGES_DESC = "Returns tasks assigned to the authenticated user that changed since the given cursor, plus ids of tasks deleted or reassigned away. Omit since for a full sync; store nextCursor and send it as since next time. Cursors older than the tombstone retention return 410.";
+
+        public static final String STREAM_MY_TASKS_SUMMARY = "Stream my task changes";
+        public static final String STREAM_MY_TASKS_DESC = "Server-sent event stream of CREATED, UPDATED, ASSIGNED, DELETED and OVERDUE events for tasks assigned to the authenticated user. Events are not replayed; after reconnecting, catch up with /changes. A client that falls too far behind is disconnected.";
 
         public static final String GET_ALL_TASKS_SUMMARY = "Get all tasks";
-        public static final String GET_ALL_TASKS_DESC = "Returns all tasks in the system. Admin only.";
+        public static final String GET_ALL_TASKS_DESC = "Returns all tasks in the system, newest first, one page at a time. Pass the returned nextCursor to fetch the next page. Admin only.";
 
         public static final String DELETE_TASK_SUMMARY = "Delete task";
         public static final String DELETE_TASK_DESC = "Deletes a task by id. Admin only.";
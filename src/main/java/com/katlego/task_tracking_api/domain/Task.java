@@ -17,8 +17,10 @@ import java.time.Instant;
 @Table(name = "tasks")
 public class Task {
 
+    // Sequence ids (pooled, 50 per round trip) keep Hibernate's JDBC insert batching enabled.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -45,11 +47,26 @@ public class Task {
     )
     private User assignedUser;
 
+    // Incremented on every update; stale writes fail with an optimistic lock exception.
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Drives GET /api/task/changes; the bulk OVERDUE updates set it explicitly.
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     @PrePersist
     public void prePersist() {
         this.createdDate = Instant.now();
+        this.updatedAt = this.createdDate;
         if (this.status == null) {
             this.status = TaskStatus.NEW;
         }
     }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = Instant.now();
+    }
 }
\ No newline at end of file
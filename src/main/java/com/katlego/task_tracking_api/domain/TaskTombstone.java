@@ -0,0 +1,41 @@
+package com.katlego.task_tracking_api.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Marks that a task left a user's task list, either because it was deleted or reassigned.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_tombstones")
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_tombstones_id_seq")
+    @SequenceGenerator(name = "task_tombstones_id_seq", sequenceName = "task_tombstones_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "removed_at", nullable = false)
+    private Instant removedAt;
+
+    public TaskTombstone(Long taskId, Long userId, Instant removedAt) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.removedAt = removedAt;
+    }
+}
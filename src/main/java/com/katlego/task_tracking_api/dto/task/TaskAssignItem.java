@@ -0,0 +1,16 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class TaskAssignItem extends TaskAssignRequest {
+    @NotNull(message = "taskId is required")
+    private Long taskId;
+    // Optional; like If-Match on the single assign, a mismatch rejects the whole request.
+    private Long version;
+}
@@ -0,0 +1,15 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBulkAssignRequest {
+    @NotEmpty(message = "At least one assignment is required")
+    @Size(max = TaskBulkCreateRequest.MAX_TASKS, message = "At most " + TaskBulkCreateRequest.MAX_TASKS + " assignments per request")
+    private List<@Valid TaskAssignItem> assignments;
+}
@@ -0,0 +1,17 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBulkCreateRequest {
+    public static final int MAX_TASKS = 1000;
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = MAX_TASKS, message = "At most " + MAX_TASKS + " tasks per request")
+    private List<@Valid TaskRequest> tasks;
+}
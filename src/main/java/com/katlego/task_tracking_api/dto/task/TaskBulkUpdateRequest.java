@@ -0,0 +1,15 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBulkUpdateRequest {
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = TaskBulkCreateRequest.MAX_TASKS, message = "At most " + TaskBulkCreateRequest.MAX_TASKS + " tasks per request")
+    private List<@Valid TaskUpdateItem> tasks;
+}
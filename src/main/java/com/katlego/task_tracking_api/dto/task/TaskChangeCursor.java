@@ -0,0 +1,44 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import com.katlego.task_tracking_api.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Sync position in the (updated_at, id) ordering of a user's changes, exchanged with clients as an
+ * opaque string. Encoded the same way as {@link TaskCursor}.
+ */
+public record TaskChangeCursor(Instant updatedAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static final TaskChangeCursor START = new TaskChangeCursor(Instant.EPOCH, 0L);
+
+    public String encode() {
+        String raw = updatedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded position, or {@link #START} for a missing cursor (full sync)
+     */
+    public static TaskChangeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new TaskChangeCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TaskChangePage {
+    /** Tasks created or changed since the cursor, oldest change first. */
+    private List<TaskResponse> changed;
+    /** Tasks deleted or reassigned to someone else since the cursor. */
+    private List<Long> removedTaskIds;
+    /** Cursor to store and send as "since" on the next sync; never null. */
+    private String nextCursor;
+    /** True when more changes are available right away with nextCursor. */
+    private boolean hasMore;
+}
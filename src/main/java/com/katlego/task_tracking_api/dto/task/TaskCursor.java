@@ -0,0 +1,42 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import com.katlego.task_tracking_api.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in the (created_date, id) ordering, exchanged with clients as an opaque string.
+ */
+public record TaskCursor(Instant createdDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TaskCursor of(TaskResponse task) {
+        return new TaskCursor(task.getCreatedDate(), task.getId());
+    }
+
+    public String encode() {
+        String raw = createdDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new TaskCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class TaskCursorPage {
+    private List<TaskResponse> items;
+    /** Opaque cursor for the next page, or null when this is the last page. */
+    private String nextCursor;
+}
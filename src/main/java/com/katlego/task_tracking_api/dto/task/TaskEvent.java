@@ -0,0 +1,22 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Payload of a task stream event. {@code task} is null for DELETED and OVERDUE events;
+ * clients that need the full task fetch it by id (the version doubles as its ETag).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+    private TaskEventType type;
+    private Long taskId;
+    private Long version;
+    private TaskResponse task;
+    private Instant occurredAt;
+}
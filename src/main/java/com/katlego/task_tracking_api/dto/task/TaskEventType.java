@@ -0,0 +1,9 @@
+package com.katlego.task_tracking_api.dto.task;
+
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    ASSIGNED,
+    DELETED,
+    OVERDUE
+}
@@ -0,0 +1,18 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+public enum TaskExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    TaskExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+}
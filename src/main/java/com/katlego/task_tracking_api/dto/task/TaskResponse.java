@@ -1,11 +1,15 @@
 package com.katlego.task_tracking_api.dto.task;
 
 import com.katlego.task_tracking_api.domain.TaskStatus;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.Instant;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class TaskResponse {
     private Long id;
     private String title;
@@ -15,4 +19,6 @@ public class TaskResponse {
     private Instant createdDate;
     private Long assignedUserId;
     private String assignedUsername;
+    private Long version;
+    private Instant updatedAt;
 }
@@ -0,0 +1,16 @@
+package com.katlego.task_tracking_api.dto.task;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class TaskUpdateItem extends TaskRequest {
+    @NotNull(message = "id is required")
+    private Long id;
+    // Optional; like If-Match on the single update, a mismatch rejects the whole request.
+    private Long version;
+}
@@ -0,0 +1,7 @@
+package com.katlego.task_tracking_api.exception;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
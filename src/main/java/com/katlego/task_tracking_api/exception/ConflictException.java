@@ -0,0 +1,7 @@
+package com.katlego.task_tracking_api.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.katlego.task_tracking_api.exception;
+
+public class GoneException extends RuntimeException {
+    public GoneException(String message) {
+        super(message);
+    }
+}
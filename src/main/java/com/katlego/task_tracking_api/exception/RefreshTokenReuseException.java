@@ -0,0 +1,7 @@
+package com.katlego.task_tracking_api.exception;
+
+public class RefreshTokenReuseException extends RuntimeException {
+    public RefreshTokenReuseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.katlego.task_tracking_api.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
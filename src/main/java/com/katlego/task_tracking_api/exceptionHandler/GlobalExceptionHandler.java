@@ -1,15 +1,25 @@
 package com.katlego.task_tracking_api.exceptionHandler;
 
+import com.katlego.task_tracking_api.exception.BadRequestException;
+import com.katlego.task_tracking_api.exception.ConflictException;
+import com.katlego.task_tracking_api.exception.GoneException;
+import com.katlego.task_tracking_api.exception.PreconditionFailedException;
+import com.katlego.task_tracking_api.exception.RefreshTokenReuseException;
 import com.katlego.task_tracking_api.exception.ResourceAlreadyExistException;
 import com.katlego.task_tracking_api.exception.ResourceNotFoundException;
+import com.katlego.task_tracking_api.exception.ServiceUnavailableException;
+import com.katlego.task_tracking_api.exception.TooManyRequestsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -38,6 +48,14 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(RefreshTokenReuseException.class)
+    public ResponseEntity<ErrorResponse> handleRefreshTokenReuseException(RefreshTokenReuseException ex) {
+        return new ResponseEntity<>(
+                createErrorResponse(ex.getMessage(), HttpStatus.UNAUTHORIZED),
+                HttpStatus.UNAUTHORIZED
+        );
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
         return new ResponseEntity<>(
@@ -67,6 +85,14 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(BadRequestException ex) {
+        return new ResponseEntity<>(
+                createErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST),
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
     @ExceptionHandler(ResourceAlreadyExistException.class)
     public ResponseEntity<ErrorResponse> handleResourceAlreadyExistException(ResourceAlreadyExistException ex) {
         return new ResponseEntity<>(
@@ -75,6 +101,74 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(ConflictException ex) {
+        return new ResponseEntity<>(
+                createErrorResponse(ex.getMessage(), HttpStatus.CONFLICT),
+                HttpStatus.CONFLICT
+        );
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        return new ResponseEntity<>(
+                createErrorResponse(ex.getMessage(), HttpStatus.PRECONDITION_FAILED),
+                HttpStatus.PRECONDITION_FAILED
+        );
+    }
+
+    @ExceptionHandler(GoneException.class)
+    public ResponseEntity<ErrorResponse> handleGoneException(GoneException ex) {
+        return new ResponseEntity<>(
+                createErrorResponse(ex.getMessage(), HttpStatus.GONE),
+                HttpStatus.GONE
+        );
+    }
+
+    // Another request updated the same row between our read and write.
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return new ResponseEntity<>(
+                createErrorResponse("The task was modified concurrently; fetch it again and retry", HttpStatus.CONFLICT),
+                HttpStatus.CONFLICT
+        );
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return new ResponseEntity<>(
+                createErrorResponse(ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS),
+                headers,
+                HttpStatus.TOO_MANY_REQUESTS
+        );
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return new ResponseEntity<>(
+                createErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE),
+                headers,
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
+    // No database connection (pool or bulkhead exhausted) within the acquire timeout.
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        logger.warn("Could not obtain a database connection: {}", ex.getMessage());
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return new ResponseEntity<>(
+                createErrorResponse("The service is busy, please retry shortly", HttpStatus.SERVICE_UNAVAILABLE),
+                headers,
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleAllExceptions(Exception ex) {
         logger.error("Unhandled exception caught: ", ex);
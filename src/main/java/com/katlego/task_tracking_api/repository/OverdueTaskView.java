@@ -0,0 +1,7 @@
+package com.katlego.task_tracking_api.repository;
+
+public interface OverdueTaskView {
+    Long getId();
+    Long getAssignedUserId();
+    Long getVersion();
+}
@@ -0,0 +1,11 @@
+package com.katlego.task_tracking_api.repository;
+
+import com.katlego.task_tracking_api.domain.TaskStatus;
+
+import java.time.Instant;
+
+public interface TaskDueDateView {
+    Long getId();
+    Instant getDueDate();
+    TaskStatus getStatus();
+}
@@ -2,6 +2,9 @@ package com.katlego.task_tracking_api.repository;
 
 import com.katlego.task_tracking_api.domain.Task;
 import com.katlego.task_tracking_api.domain.TaskStatus;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,16 +12,109 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
-   List<Task> findTaskByAssignedUser(Long assignedUserId);
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
    List<Task> findByDueDateBeforeAndStatusIn(Instant now, List<TaskStatus> statuses);
 
+   // Used by the bulk endpoints: one IN query, with the assignee fetched for the response mapping.
+   @EntityGraph(attributePaths = "assignedUser")
+   List<Task> findByIdIn(Collection<Long> ids);
+
+   // GET /api/task/{id} maps outside a transaction (open-in-view is off), so the assignee is fetched up front.
+   @EntityGraph(attributePaths = "assignedUser")
+   Optional<Task> findWithAssignedUserById(Long id);
+
+   // Enough to answer a conditional GET without loading and mapping the task.
+   @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+   Optional<Long> findVersionById(@Param("id") Long id);
+
+   /*
+    * Keyset pages ordered by (createdDate, id) descending, projected straight into TaskResponse.
+    * "createdDate <= :createdDate" is the index condition; the OR only filters ties on createdDate.
+    * The Pageable is only used to apply the row limit.
+    */
+   @Query("""
+        SELECT new com.katlego.task_tracking_api.dto.task.TaskResponse(
+            t.id, t.title, t.description, t.status, t.dueDate, t.createdDate, u.id, u.username, t.version, t.updatedAt)
+        FROM Task t
+        LEFT JOIN t.assignedUser u
+        ORDER BY t.createdDate DESC, t.id DESC
+    """)
+   List<TaskResponse> findTaskResponses(Pageable limit);
+
+   @Query("""
+        SELECT new com.katlego.task_tracking_api.dto.task.TaskResponse(
+            t.id, t.title, t.description, t.status, t.dueDate, t.createdDate, u.id, u.username, t.version, t.updatedAt)
+        FROM Task t
+        LEFT JOIN t.assignedUser u
+        WHERE t.createdDate <= :createdDate
+        AND (t.createdDate < :createdDate OR t.id < :id)
+        ORDER BY t.createdDate DESC, t.id DESC
+    """)
+   List<TaskResponse> findTaskResponsesAfter(
+           @Param("createdDate") Instant createdDate,
+           @Param("id") Long id,
+           Pageable limit
+   );
+
+   @Query("""
+        SELECT new com.katlego.task_tracking_api.dto.task.TaskResponse(
+            t.id, t.title, t.description, t.status, t.dueDate, t.createdDate, u.id, u.username, t.version, t.updatedAt)
+        FROM Task t
+        JOIN t.assignedUser u
+        WHERE u.id = :userId
+        ORDER BY t.createdDate DESC, t.id DESC
+    """)
+   List<TaskResponse> findAssignedTaskResponses(@Param("userId") Long userId, Pageable limit);
+
+   @Query("""
+        SELECT new com.katlego.task_tracking_api.dto.task.TaskResponse(
+            t.id, t.title, t.description, t.status, t.dueDate, t.createdDate, u.id, u.username, t.version, t.updatedAt)
+        FROM Task t
+        JOIN t.assignedUser u
+        WHERE u.id = :userId
+        AND t.createdDate <= :createdDate
+        AND (t.createdDate < :createdDate OR t.id < :id)
+        ORDER BY t.createdDate DESC, t.id DESC
+    """)
+   List<TaskResponse> findAssignedTaskResponsesAfter(
+           @Param("userId") Long userId,
+           @Param("createdDate") Instant createdDate,
+           @Param("id") Long id,
+           Pageable limit
+   );
+
+   /*
+    * Changes to a user's tasks in (updatedAt, id) order, strictly after the given position and no
+    * later than :until. Rows newer than :until may belong to transactions that have not committed
+    * yet; skipping them keeps a client's cursor from moving past a row it has not seen.
+    */
+   @Query("""
+        SELECT new com.katlego.task_tracking_api.dto.task.TaskResponse(
+            t.id, t.title, t.description, t.status, t.dueDate, t.createdDate, u.id, u.username, t.version, t.updatedAt)
+        FROM Task t
+        JOIN t.assignedUser u
+        WHERE u.id = :userId
+        AND t.updatedAt >= :updatedAt
+        AND (t.updatedAt > :updatedAt OR t.id > :id)
+        AND t.updatedAt <= :until
+        ORDER BY t.updatedAt, t.id
+    """)
+   List<TaskResponse> findAssignedTaskChanges(
+           @Param("userId") Long userId,
+           @Param("updatedAt") Instant updatedAt,
+           @Param("id") Long id,
+           @Param("until") Instant until,
+           Pageable limit
+   );
+
    @Modifying
    @Query("""
         UPDATE Task t
-        SET t.status = :overdueStatus
+        SET t.status = :overdueStatus, t.version = t.version + 1, t.updatedAt = :now
         WHERE t.dueDate < :now
         AND t.status IN :statuses
     """)
@@ -27,4 +123,55 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
            @Param("statuses") List<TaskStatus> statuses,
            @Param("overdueStatus") TaskStatus overdueStatus
    );
-}
\ No newline at end of file
+
+   /*
+    * Marks at most :batchSize overdue tasks, oldest due date first. The status list is inlined
+    * (not bound) so the planner can use the partial index idx_tasks_due_date_active; keep the
+    * two in sync. SKIP LOCKED lets concurrent runs work on disjoint rows. RETURNING hands back
+    * the marked rows (read as a result set, hence no @Modifying) so the assignees can be notified.
+    */
+   @Query(value = """
+        WITH batch AS (
+            SELECT id FROM tasks
+            WHERE due_date < :now
+            AND status IN ('NEW', 'IN_PROGRESS', 'DELAYED')
+            ORDER BY due_date
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE tasks t
+        SET status = 'OVERDUE', version = t.version + 1, updated_at = :updatedAt
+        FROM batch
+        WHERE t.id = batch.id
+        RETURNING t.id AS id, t.assigned_user_id AS "assignedUserId", t.version AS version
+    """, nativeQuery = true)
+   List<OverdueTaskView> markOverdueBatch(
+           @Param("now") Instant now,
+           @Param("updatedAt") Instant updatedAt,
+           @Param("batchSize") int batchSize
+   );
+
+   @Query("""
+        SELECT t.id AS id, t.dueDate AS dueDate, t.status AS status
+        FROM Task t
+        WHERE t.dueDate < :until
+        AND t.status IN :statuses
+        ORDER BY t.dueDate
+    """)
+   List<TaskDueDateView> findDueBefore(
+           @Param("until") Instant until,
+           @Param("statuses") List<TaskStatus> statuses,
+           Pageable limit
+   );
+
+   // Re-checks due date and status so tasks edited after being scheduled are left alone.
+   @Query(value = """
+        UPDATE tasks
+        SET status = 'OVERDUE', version = version + 1, updated_at = :now
+        WHERE id IN (:ids)
+        AND due_date < :now
+        AND status IN ('NEW', 'IN_PROGRESS', 'DELAYED')
+        RETURNING id AS id, assigned_user_id AS "assignedUserId", version AS version
+    """, nativeQuery = true)
+   List<OverdueTaskView> markOverdueByIds(@Param("ids") List<Long> ids, @Param("now") Instant now);
+}
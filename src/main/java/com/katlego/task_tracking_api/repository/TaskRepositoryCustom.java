@@ -0,0 +1,24 @@
+package com.katlego.task_tracking_api.repository;
+
+import com.katlego.task_tracking_api.domain.Task;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Streams matching tasks, ordered by id, as TaskResponse rows read through a server-side
+     * cursor. Must be consumed and closed inside a transaction.
+     */
+    Stream<TaskResponse> streamTaskResponses(Specification<Task> spec, int fetchSize);
+
+    /**
+     * Like findAll(spec, pageable) but reads one extra row to work out whether a next page
+     * exists instead of issuing a COUNT query.
+     */
+    Slice<Task> findSlice(Specification<Task> spec, Pageable pageable);
+}
@@ -0,0 +1,90 @@
+package com.katlego.task_tracking_api.repository;
+
+import com.katlego.task_tracking_api.domain.Task;
+import com.katlego.task_tracking_api.domain.User;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<TaskResponse> streamTaskResponses(Specification<Task> spec, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> assignedUser = task.join("assignedUser", JoinType.LEFT);
+
+        // Rows are projected into DTOs, so nothing accumulates in the persistence context.
+        query.select(cb.construct(
+                TaskResponse.class,
+                task.get("id"),
+                task.get("title"),
+                task.get("description"),
+                task.get("status"),
+                task.get("dueDate"),
+                task.get("createdDate"),
+                assignedUser.get("id"),
+                assignedUser.get("username"),
+                task.get("version"),
+                task.get("updatedAt")
+        ));
+
+        Predicate predicate = spec.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(task.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public Slice<Task> findSlice(Specification<Task> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+
+        Predicate predicate = spec.toPredicate(task, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), task, cb));
+        }
+
+        TypedQuery<Task> typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+
+        List<Task> tasks = typedQuery
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = tasks.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? tasks.subList(0, pageable.getPageSize()) : tasks, pageable, hasNext);
+    }
+}
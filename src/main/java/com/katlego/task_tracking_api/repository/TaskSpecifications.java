@@ -0,0 +1,53 @@
+package com.katlego.task_tracking_api.repository;
+
+import com.katlego.task_tracking_api.domain.Task;
+import com.katlego.task_tracking_api.dto.task.TaskFilter;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> fromFilter(TaskFilter filter) {
+        Specification<Task> spec = Specification.where((root, query, cb) -> cb.conjunction());
+
+        if (filter.getStatus() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), filter.getStatus()));
+        }
+
+        if (filter.getDueDateFrom() != null) {
+            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), filter.getDueDateFrom()));
+        }
+
+        if (filter.getDueDateTo() != null) {
+            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), filter.getDueDateTo()));
+        }
+
+        if (filter.getAssignedUserId() != null) {
+            // Compares the assigned_user_id foreign key directly; no join to users is needed.
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("assignedUser").get("id"), filter.getAssignedUserId()));
+        }
+
+        return spec;
+    }
+
+    /**
+     * Fetch-joins assignedUser so mapping a page does not lazily load each assignee.
+     * Safe with pagination because it is a to-one join; skipped for count queries.
+     */
+    public static Specification<Task> fetchAssignedUser() {
+        return (root, query, cb) -> {
+            if (query != null && !isCountQuery(query)) {
+                root.fetch("assignedUser", JoinType.LEFT);
+            }
+            return cb.conjunction();
+        };
+    }
+
+    private static boolean isCountQuery(CriteriaQuery<?> query) {
+        return query.getResultType() == Long.class || query.getResultType() == long.class;
+    }
+}
@@ -0,0 +1,35 @@
+package com.katlego.task_tracking_api.repository;
+
+import com.katlego.task_tracking_api.domain.TaskTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+   // Same keyset shape as TaskRepository.findAssignedTaskChanges, ordered by (removedAt, taskId).
+   @Query("""
+        SELECT t FROM TaskTombstone t
+        WHERE t.userId = :userId
+        AND t.removedAt >= :removedAt
+        AND (t.removedAt > :removedAt OR t.taskId > :taskId)
+        AND t.removedAt <= :until
+        ORDER BY t.removedAt, t.taskId
+    """)
+   List<TaskTombstone> findRemovedSince(
+           @Param("userId") Long userId,
+           @Param("removedAt") Instant removedAt,
+           @Param("taskId") Long taskId,
+           @Param("until") Instant until,
+           Pageable limit
+   );
+
+   @Modifying
+   @Query("DELETE FROM TaskTombstone t WHERE t.removedAt < :cutoff")
+   int deleteRemovedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -1,37 +1,131 @@
 package com.katlego.task_tracking_api.scheduler;
 
-import com.katlego.task_tracking_api.domain.Task;
 import com.katlego.task_tracking_api.domain.TaskStatus;
+import com.katlego.task_tracking_api.repository.OverdueTaskView;
 import com.katlego.task_tracking_api.repository.TaskRepository;
-import jakarta.transaction.Transactional;
+import com.katlego.task_tracking_api.service.TaskEventBus;
+import com.katlego.task_tracking_api.service.TaskResponseCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
-public class OverdueTaskScheduler {
+public class OverdueTaskScheduler implements MeterBinder {
+    private static final String JOB = "overdue-tasks";
 
     private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskEventBus taskEventBus;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
 
-    public OverdueTaskScheduler(TaskRepository taskRepository) {
+    @Getter private volatile int lastRunUpdatedCount;
+    @Getter private volatile int lastRunBatchCount;
+    @Getter private volatile Duration lastRunDuration = Duration.ZERO;
+
+    public OverdueTaskScheduler(TaskRepository taskRepository,
+                                PlatformTransactionManager transactionManager,
+                                TaskResponseCache taskResponseCache,
+                                TaskEventBus taskEventBus,
+                                @Value("${schedule.overdue-task-batch-size:1000}") int batchSize,
+                                @Value("${schedule.overdue-task-max-batches-per-run:0}") int maxBatchesPerRun) {
         this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskResponseCache = taskResponseCache;
+        this.taskEventBus = taskEventBus;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
     }
 
-    @Transactional
     @Scheduled(cron = "${schedule.overdue-task-schedule-time:0 0 * * * *}")
     public void markOverdueTasks() {
         log.info("Starting overdue task check");
 
-        int updated = taskRepository.markTasksAsOverdue(
+        Instant startedAt = Instant.now();
+        int updated = 0;
+        int batches = 0;
+
+        if (batchSize <= 0) {
+            updated = markAllInOneStatement();
+            batches = 1;
+            invalidateCachedTasks(updated);
+        } else {
+            int batchUpdated;
+            do {
+                // Each batch commits on its own so row locks are short-lived.
+                List<OverdueTaskView> marked = transactionTemplate.execute(status ->
+                        taskRepository.markOverdueBatch(startedAt, Instant.now(), batchSize));
+                batchUpdated = marked.size();
+                updated += batchUpdated;
+                batches++;
+                invalidateCachedTasks(batchUpdated);
+                taskEventBus.publishOverdue(marked);
+                log.debug("Overdue batch {} marked {} task(s), {} so far", batches, batchUpdated, updated);
+
+                if (maxBatchesPerRun > 0 && batches >= maxBatchesPerRun && batchUpdated == batchSize) {
+                    log.warn("Stopped after {} overdue batch(es); remaining tasks are picked up next run", batches);
+                    break;
+                }
+            } while (batchUpdated == batchSize);
+        }
+
+        lastRunUpdatedCount = updated;
+        lastRunBatchCount = batches;
+        lastRunDuration = Duration.between(startedAt, Instant.now());
+
+        log.info("Marked {} task(s) as OVERDUE in {} batch(es) in {} ms",
+                updated, batches, lastRunDuration.toMillis());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("scheduler.last.duration", this, TimeUnit.MILLISECONDS,
+                        scheduler -> scheduler.getLastRunDuration().toMillis())
+                .description("Duration of the last scheduled run")
+                .tag("job", JOB)
+                .register(registry);
+        Gauge.builder("scheduler.last.rows", this, OverdueTaskScheduler::getLastRunUpdatedCount)
+                .description("Rows affected by the last scheduled run")
+                .tag("job", JOB)
+                .register(registry);
+        Gauge.builder("scheduler.last.batches", this, OverdueTaskScheduler::getLastRunBatchCount)
+                .description("Batches committed by the last scheduled run")
+                .tag("job", JOB)
+                .register(registry);
+    }
+
+    // The bulk updates bypass the entities, so cached responses cannot be patched individually.
+    private void invalidateCachedTasks(int updated) {
+        if (updated > 0) {
+            taskResponseCache.invalidateAll();
+        }
+    }
+
+    /*
+     * Reports the count only; no OVERDUE stream events are published in this mode. The rows are stamped
+     * when the statement runs rather than when the run started, so the stamp is at most one transaction
+     * (bounded by spring.transaction.default-timeout) older than the commit.
+     */
+    private int markAllInOneStatement() {
+        return transactionTemplate.execute(status -> taskRepository.markTasksAsOverdue(
                 Instant.now(),
                 List.of(TaskStatus.NEW, TaskStatus.IN_PROGRESS, TaskStatus.DELAYED),
                 TaskStatus.OVERDUE
-        );
-
-        log.info("Marked {} task(s) as OVERDUE", updated);
+        ));
     }
 }
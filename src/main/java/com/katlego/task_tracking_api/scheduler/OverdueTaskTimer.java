@@ -0,0 +1,200 @@
+package com.katlego.task_tracking_api.scheduler;
+
+import com.katlego.task_tracking_api.domain.TaskStatus;
+import com.katlego.task_tracking_api.repository.OverdueTaskView;
+import com.katlego.task_tracking_api.repository.TaskDueDateView;
+import com.katlego.task_tracking_api.repository.TaskRepository;
+import com.katlego.task_tracking_api.service.TaskEventBus;
+import com.katlego.task_tracking_api.service.TaskResponseCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flips tasks to OVERDUE at their due instant instead of waiting for the next
+ * {@link OverdueTaskScheduler} run. Only tasks due within the lookahead window are held
+ * in memory; the window is refilled periodically and the cron job remains the
+ * reconciliation sweep for anything missed (restarts, capacity limit, direct DB edits).
+ */
+@Component
+@Slf4j
+public class OverdueTaskTimer implements MeterBinder {
+    private static final List<TaskStatus> ACTIVE_STATUSES =
+            List.of(TaskStatus.NEW, TaskStatus.IN_PROGRESS, TaskStatus.DELAYED);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskEventBus taskEventBus;
+    private final boolean enabled;
+    private final Duration lookahead;
+    private final int maxScheduled;
+    private final int batchSize;
+
+    private final DelayQueue<DueTask> queue = new DelayQueue<>();
+    // Latest known due date per task; queue entries that no longer match are stale and skipped.
+    private final Map<Long, Instant> scheduled = new ConcurrentHashMap<>();
+    private volatile Thread worker;
+
+    public OverdueTaskTimer(TaskRepository taskRepository,
+                            PlatformTransactionManager transactionManager,
+                            TaskResponseCache taskResponseCache,
+                            TaskEventBus taskEventBus,
+                            @Value("${schedule.overdue-timer.enabled:true}") boolean enabled,
+                            @Value("${schedule.overdue-timer.lookahead-minutes:10}") long lookaheadMinutes,
+                            @Value("${schedule.overdue-timer.max-scheduled:100000}") int maxScheduled,
+                            @Value("${schedule.overdue-timer.batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskResponseCache = taskResponseCache;
+        this.taskEventBus = taskEventBus;
+        this.enabled = enabled;
+        this.lookahead = Duration.ofMinutes(lookaheadMinutes);
+        this.maxScheduled = maxScheduled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        loadUpcoming();
+        worker = Thread.ofPlatform()
+                .name("overdue-task-timer")
+                .daemon(true)
+                .start(this::run);
+        log.info("Overdue task timer started with {} task(s) scheduled", scheduled.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * Registers (or re-registers) a task after it was created or changed.
+     */
+    public void schedule(Long taskId, Instant dueDate, TaskStatus status) {
+        if (!enabled || taskId == null) {
+            return;
+        }
+
+        if (dueDate == null || !ACTIVE_STATUSES.contains(status)
+                || dueDate.isAfter(Instant.now().plus(lookahead))) {
+            scheduled.remove(taskId);
+            return;
+        }
+
+        if (scheduled.size() >= maxScheduled && !scheduled.containsKey(taskId)) {
+            return;
+        }
+
+        Instant previous = scheduled.put(taskId, dueDate);
+        if (!dueDate.equals(previous)) {
+            queue.put(new DueTask(taskId, dueDate));
+        }
+    }
+
+    public void cancel(Long taskId) {
+        if (taskId != null) {
+            scheduled.remove(taskId);
+        }
+    }
+
+    public int scheduledCount() {
+        return scheduled.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("scheduler.overdue.timer.scheduled", this, OverdueTaskTimer::scheduledCount)
+                .description("Tasks held in memory waiting for their due instant")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.overdue-timer.refill-interval-ms:60000}")
+    public void loadUpcoming() {
+        if (!enabled) {
+            return;
+        }
+
+        List<TaskDueDateView> upcoming = taskRepository.findDueBefore(
+                Instant.now().plus(lookahead), ACTIVE_STATUSES, PageRequest.of(0, maxScheduled));
+
+        upcoming.forEach(task -> schedule(task.getId(), task.getDueDate(), task.getStatus()));
+        log.debug("Overdue task timer refilled, {} task(s) scheduled", scheduled.size());
+    }
+
+    private void run() {
+        List<DueTask> batch = new ArrayList<>(batchSize);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                // Only drains entries whose due date has already passed.
+                queue.drainTo(batch, batchSize - 1);
+                fire(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Overdue task timer batch failed; the scheduled sweep will retry", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fire(List<DueTask> batch) {
+        List<Long> taskIds = batch.stream()
+                .filter(task -> scheduled.remove(task.taskId(), task.dueDate()))
+                .map(DueTask::taskId)
+                .toList();
+
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        List<OverdueTaskView> marked = transactionTemplate.execute(status ->
+                taskRepository.markOverdueByIds(taskIds, Instant.now()));
+        taskResponseCache.invalidate(taskIds);
+        taskEventBus.publishOverdue(marked);
+        log.debug("Overdue task timer marked {} of {} due task(s) as OVERDUE", marked.size(), taskIds.size());
+    }
+
+    private record DueTask(Long taskId, Instant dueDate) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(Instant.now(), dueDate));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return dueDate.compareTo(((DueTask) other).dueDate);
+        }
+    }
+}
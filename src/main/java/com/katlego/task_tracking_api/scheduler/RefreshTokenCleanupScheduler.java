@@ -1,29 +1,93 @@
 package com.katlego.task_tracking_api.scheduler;
 
+import com.katlego.task_tracking_api.security.service.RefreshTokenPartitionManager;
 import com.katlego.task_tracking_api.security.service.RefreshTokenService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
 @Component
 @Slf4j
-public class RefreshTokenCleanupScheduler {
+public class RefreshTokenCleanupScheduler implements MeterBinder {
+    private static final String JOB = "refresh-token-cleanup";
 
     private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenPartitionManager refreshTokenPartitionManager;
+
+    @Getter private volatile int lastRunDeletedCount;
+    @Getter private volatile int lastRunDroppedPartitions;
+    @Getter private volatile Duration lastRunDuration = Duration.ZERO;
 
-    public RefreshTokenCleanupScheduler(RefreshTokenService refreshTokenService) {
+    public RefreshTokenCleanupScheduler(RefreshTokenService refreshTokenService,
+                                        RefreshTokenPartitionManager refreshTokenPartitionManager) {
         this.refreshTokenService = refreshTokenService;
+        this.refreshTokenPartitionManager = refreshTokenPartitionManager;
     }
 
     @Scheduled(cron = "${schedule.refresh-token-cleanup-schedule-time}")
     public void cleanupExpiredTokens() {
         log.info("Starting cleanup of expired refresh tokens");
+        Instant startedAt = Instant.now();
+        int droppedPartitions = 0;
+        int deletedCount = 0;
 
         try {
-            int deletedCount = refreshTokenService.deleteExpiredTokens();
+            droppedPartitions = refreshTokenPartitionManager.dropExpiredPartitions();
+            log.info("Dropped {} expired refresh token partition(s)", droppedPartitions);
+        } catch (Exception e) {
+            log.error("Error while dropping expired refresh token partitions", e);
+        }
+
+        // Covers the default partition and the expired part of today's partition.
+        try {
+            deletedCount = refreshTokenService.deleteExpiredTokens();
             log.info("Deleted {} expired refresh tokens", deletedCount);
         } catch (Exception e) {
             log.error("Error during refresh token cleanup", e);
         }
+
+        lastRunDroppedPartitions = droppedPartitions;
+        lastRunDeletedCount = deletedCount;
+        lastRunDuration = Duration.between(startedAt, Instant.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${schedule.refresh-token-partition-schedule-time:0 0 1 * * *}")
+    public void createUpcomingPartitions() {
+        try {
+            int created = refreshTokenPartitionManager.createUpcomingPartitions();
+            log.info("Created {} refresh token partition(s)", created);
+        } catch (Exception e) {
+            log.error("Error while creating refresh token partitions", e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("scheduler.last.duration", this, TimeUnit.MILLISECONDS,
+                        scheduler -> scheduler.getLastRunDuration().toMillis())
+                .description("Duration of the last scheduled run")
+                .tag("job", JOB)
+                .register(registry);
+        Gauge.builder("scheduler.last.rows", this, RefreshTokenCleanupScheduler::getLastRunDeletedCount)
+                .description("Rows affected by the last scheduled run")
+                .tag("job", JOB)
+                .register(registry);
+        Gauge.builder("scheduler.last.partitions.dropped", this,
+                        RefreshTokenCleanupScheduler::getLastRunDroppedPartitions)
+                .description("Expired partitions dropped by the last scheduled run")
+                .tag("job", JOB)
+                .register(registry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.katlego.task_tracking_api.scheduler;
+
+import com.katlego.task_tracking_api.repository.TaskTombstoneRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Purges task tombstones past the retention period; TaskChangeService answers older cursors with 410.
+ */
+@Component
+@Slf4j
+public class TaskTombstoneCleanupScheduler implements MeterBinder {
+    private static final String JOB = "task-tombstone-cleanup";
+
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+
+    @Getter private volatile int lastRunDeletedCount;
+    @Getter private volatile Duration lastRunDuration = Duration.ZERO;
+
+    public TaskTombstoneCleanupScheduler(TaskTombstoneRepository taskTombstoneRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         @Value("${app.task.changes.tombstone-retention-days:30}") long retentionDays) {
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Scheduled(cron = "${schedule.task-tombstone-cleanup-schedule-time:0 30 0 * * *}")
+    public void deleteExpiredTombstones() {
+        Instant startedAt = Instant.now();
+        int deletedCount = 0;
+
+        try {
+            deletedCount = transactionTemplate.execute(status ->
+                    taskTombstoneRepository.deleteRemovedBefore(startedAt.minus(retention)));
+            log.info("Deleted {} expired task tombstone(s)", deletedCount);
+        } catch (Exception e) {
+            log.error("Error during task tombstone cleanup", e);
+        }
+
+        lastRunDeletedCount = deletedCount;
+        lastRunDuration = Duration.between(startedAt, Instant.now());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("scheduler.last.duration", this, TimeUnit.MILLISECONDS,
+                        scheduler -> scheduler.getLastRunDuration().toMillis())
+                .description("Duration of the last scheduled run")
+                .tag("job", JOB)
+                .register(registry);
+        Gauge.builder("scheduler.last.rows", this, TaskTombstoneCleanupScheduler::getLastRunDeletedCount)
+                .description("Rows affected by the last scheduled run")
+                .tag("job", JOB)
+                .register(registry);
+    }
+}
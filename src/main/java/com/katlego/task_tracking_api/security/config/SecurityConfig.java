@@ -1,6 +1,10 @@
 package com.katlego.task_tracking_api.security.config;
 
 import com.katlego.task_tracking_api.security.jwt.filter.JwtAuthenticationFilter;
+import com.katlego.task_tracking_api.security.service.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,7 +14,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -25,19 +28,37 @@ public class SecurityConfig {
         this.jwtAuthFilter = jwtAuthFilter;
     }
 
+    /*
+     * Only health is public. The other actuator endpoints need ADMIN, except Prometheus when
+     * actuator runs on its own management port (MANAGEMENT_PORT), which is kept off the public ingress.
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${server.port:8080}") String serverPort,
+            @Value("${management.server.port:}") String managementPort) throws Exception {
+        boolean separateManagementPort = !managementPort.isBlank() && !managementPort.equals(serverPort);
+
         http
                 .csrf(csrf -> csrf.disable())
-                .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/auth/**").permitAll()
-                        .requestMatchers(
-                                "/v3/api-docs/**",
-                                "/swagger-ui/**",
-                                "/swagger-ui.html"
-                        ).permitAll()
-                        .anyRequest().authenticated()
-                )
+                .authorizeHttpRequests(auth -> {
+                    auth
+                            // Async dispatches only follow a request that was already authorized (streamed responses).
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                            .requestMatchers("/api/auth/**").permitAll()
+                            .requestMatchers(
+                                    "/v3/api-docs/**",
+                                    "/swagger-ui/**",
+                                    "/swagger-ui.html"
+                            ).permitAll()
+                            .requestMatchers("/actuator/health/**").permitAll();
+                    if (separateManagementPort) {
+                        auth.requestMatchers("/actuator/prometheus").permitAll();
+                    }
+                    auth
+                            .requestMatchers("/actuator/**").hasRole("ADMIN")
+                            .anyRequest().authenticated();
+                })
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
@@ -52,8 +73,19 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /*
+     * BCrypt runs on a dedicated pool sized to the CPU count (pool-size 0). Raising bcrypt-strength
+     * rehashes each user's password on their next successful login (CustomUserDetailsService).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${app.auth.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${app.auth.password.pool-size:0}") int poolSize,
+            @Value("${app.auth.password.queue-capacity:64}") int queueCapacity,
+            @Value("${app.auth.password.max-wait-ms:5000}") long maxWaitMs,
+            MeterRegistry meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), threads, queueCapacity, maxWaitMs,
+                meterRegistry);
     }
 }
\ No newline at end of file
@@ -11,14 +11,49 @@ import java.util.List;
 
 public class CustomUserDetails implements UserDetails {
 
+    private final Long id;
     private final String email;
+    private final String name;
     private final String password;
     private final String role;
 
-    public CustomUserDetails(User user) {
+    /**
+     * Uses an already resolved role name so a lazy {@code User.role} is never initialized.
+     */
+    public CustomUserDetails(User user, String role) {
+        this.id = user.getId();
         this.email = user.getEmail();
+        this.name = user.getUsername();
         this.password = user.getPasswordHash();
-        this.role = user.getRole().getName();
+        this.role = role;
+    }
+
+    /**
+     * Principal built from verified access-token claims. It carries no password
+     * and must only be used for request authentication, never for login.
+     */
+    public CustomUserDetails(Long id, String email, String role) {
+        this.id = id;
+        this.email = email;
+        this.name = null;
+        this.password = null;
+        this.role = role;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    /**
+     * The account's username; {@link #getUsername()} returns the email, which is the login name.
+     * Not set on principals built from token claims.
+     */
+    public String getName() {
+        return name;
     }
 
     @Override
@@ -27,7 +62,7 @@ public class CustomUserDetails implements UserDetails {
     }
 
     @Override
-    public String getPassword() {
+    public @Nullable String getPassword() {
         return password;
     }
 
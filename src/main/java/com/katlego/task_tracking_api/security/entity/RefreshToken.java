@@ -22,8 +22,9 @@ public class RefreshToken {
     @Column(nullable = false)
     private String email;
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    // SHA-256 of the issued token; the token itself is never stored.
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
 
     @Column(nullable = false)
     private Instant createdAt;
@@ -31,6 +32,12 @@ public class RefreshToken {
     @Column(nullable = false)
     private Instant expiresAt;
 
+    // Set when the token is rotated; the row is kept so a quick second use is not taken for a replay.
+    private Instant replacedAt;
+
+    @Column(name = "replaced_by_hash", length = 32)
+    private byte[] replacedByHash;
+
     public boolean isExpired() {
         return Instant.now().isAfter(this.expiresAt);
     }
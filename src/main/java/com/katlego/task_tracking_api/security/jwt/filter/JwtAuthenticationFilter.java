@@ -1,6 +1,9 @@
 package com.katlego.task_tracking_api.security.jwt.filter;
 
+import com.katlego.task_tracking_api.security.entity.CustomUserDetails;
+import com.katlego.task_tracking_api.security.entity.TokenType;
 import com.katlego.task_tracking_api.security.jwt.service.JwtService;
+import com.katlego.task_tracking_api.security.jwt.service.VerifiedToken;
 import com.katlego.task_tracking_api.security.service.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,14 +11,19 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.PathContainer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @Slf4j
@@ -23,11 +31,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final boolean claimsTrusted;
+    private final List<PathPattern> revocationSensitivePaths;
 
     public JwtAuthenticationFilter(JwtService jwtService,
-                                   CustomUserDetailsService userDetailsService) {
+                                   CustomUserDetailsService userDetailsService,
+                                   @Value("${app.jwt.claims-trusted:false}") boolean claimsTrusted,
+                                   @Value("${app.jwt.revocation-sensitive-paths:/api/user/**}") List<String> revocationSensitivePaths) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.claimsTrusted = claimsTrusted;
+        this.revocationSensitivePaths = revocationSensitivePaths.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
     }
 
     @Override
@@ -45,12 +61,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
+            final VerifiedToken token = jwtService.verifyToken(jwt);
+            final String userEmail = token.subject();
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+            if (userEmail != null
+                    && token.isOfType(TokenType.ACCESS)
+                    && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = resolvePrincipal(token, request);
 
-                if (jwtService.validateAccessToken(jwt, userDetails)) {
+                if (jwtService.validateAccessToken(token, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -71,4 +90,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * In claims-trusted mode the principal is rebuilt from the signed token, so
+     * deleted users or role changes only take effect once the access token expires.
+     * Revocation-sensitive paths and tokens issued without the id/role claims
+     * always go to the database.
+     */
+    private UserDetails resolvePrincipal(VerifiedToken token, HttpServletRequest request) {
+        if (claimsTrusted && !isRevocationSensitive(request)) {
+            Long userId = token.claims().get("userId", Long.class);
+            String role = token.claims().get("role", String.class);
+
+            if (userId != null && role != null) {
+                return new CustomUserDetails(userId, token.subject(), role);
+            }
+        }
+
+        return userDetailsService.loadUserByUsername(token.subject());
+    }
+
+    private boolean isRevocationSensitive(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+
+        return revocationSensitivePaths.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+}
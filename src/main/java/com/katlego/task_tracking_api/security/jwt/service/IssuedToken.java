@@ -0,0 +1,10 @@
+package com.katlego.task_tracking_api.security.jwt.service;
+
+import java.time.Instant;
+
+/**
+ * A freshly signed JWT together with its {@code exp} claim, so callers that store the token
+ * use exactly the expiry the token carries.
+ */
+public record IssuedToken(String token, Instant expiresAt) {
+}
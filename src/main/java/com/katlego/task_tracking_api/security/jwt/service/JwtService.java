@@ -2,9 +2,11 @@ package com.katlego.task_tracking_api.security.jwt.service;
 
 import com.katlego.task_tracking_api.security.entity.TokenType;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,101 +15,167 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 public class JwtService {
-    private final String secretKey;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
     private final int accessTokenExpirationMs;
     private final int refreshTokenExpirationMs;
+    private final Timer verifySuccessTimer;
+    private final Timer verifyFailureTimer;
+    private final Timer signAccessTimer;
+    private final Timer signRefreshTimer;
 
     public JwtService(@Value("${app.jwt.secret}") String jwtSecretKey,
                       @Value("${app.jwt.access-token-expiration-ms}") int accessTokenExpirationMs,
-                      @Value("${app.jwt.refresh-token-expiration-ms}") int refreshTokenExpirationMs) {
-        this.secretKey = jwtSecretKey;
+                      @Value("${app.jwt.refresh-token-expiration-ms}") int refreshTokenExpirationMs,
+                      MeterRegistry meterRegistry) {
+        // Key derivation and parser construction are done once; JwtParser is immutable and thread-safe.
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
         this.accessTokenExpirationMs = accessTokenExpirationMs;
         this.refreshTokenExpirationMs = refreshTokenExpirationMs;
+        this.verifySuccessTimer = verifyTimer(meterRegistry, "success");
+        this.verifyFailureTimer = verifyTimer(meterRegistry, "failure");
+        this.signAccessTimer = signTimer(meterRegistry, TokenType.ACCESS);
+        this.signRefreshTimer = signTimer(meterRegistry, TokenType.REFRESH);
     }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.verify")
+                .description("Signature verification and claim parsing of incoming JWTs")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Timer signTimer(MeterRegistry meterRegistry, TokenType tokenType) {
+        return Timer.builder("jwt.sign")
+                .description("Signing of issued JWTs")
+                .tag("type", tokenType.name().toLowerCase())
+                .register(meterRegistry);
     }
 
     public String generateAccessToken(String email, Map<String, Object> claims) {
-        return generateToken(email, claims, accessTokenExpirationMs, TokenType.ACCESS);
+        return signAccessTimer.record(() ->
+                sign(email, claims, expiryAfter(accessTokenExpirationMs), TokenType.ACCESS));
+    }
+
+    /**
+     * The returned expiry equals the token's {@code exp} claim; the refresh_tokens row is stored
+     * with it so later lookups can match on (token_hash, expires_at).
+     */
+    public IssuedToken generateRefreshToken(String email) {
+        Instant expiresAt = expiryAfter(refreshTokenExpirationMs);
+        return new IssuedToken(
+                signRefreshTimer.record(() -> sign(email, Map.of(), expiresAt, TokenType.REFRESH)),
+                expiresAt);
     }
 
-    public String generateRefreshToken(String email) {
-        return generateToken(email, Map.of(), refreshTokenExpirationMs, TokenType.REFRESH);
+    // exp is a NumericDate (whole seconds), so the expiry is truncated before it is signed.
+    private static Instant expiryAfter(int expirationMs) {
+        return Instant.now().plusMillis(expirationMs).truncatedTo(ChronoUnit.SECONDS);
     }
 
-    private String generateToken(String email, Map<String, Object> claims, int expirationMs, TokenType tokenType) {
-        Instant now = Instant.now();
+    private String sign(String email, Map<String, Object> claims, Instant expiresAt, TokenType tokenType) {
         Map<String, Object> tokenClaims = new HashMap<>(claims);
         tokenClaims.put("tokenType", tokenType.name());
 
+        // jti keeps two tokens issued to the same user within one second from being identical.
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
-                .issuedAt(Date.from(now))
+                .issuedAt(new Date())
                 .claims(tokenClaims)
-                .expiration(Date.from(now.plusMillis(expirationMs)))
-                .signWith(getSigningKey())
+                .expiration(Date.from(expiresAt))
+                .signWith(signingKey)
                 .compact();
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    /**
+     * Verifies the signature and parses the token exactly once.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verifyToken(String token) {
+        long start = System.nanoTime();
+        boolean verified = false;
+        try {
+            VerifiedToken verifiedToken = parse(token);
+            verified = true;
+            return verifiedToken;
+        } finally {
+            (verified ? verifySuccessTimer : verifyFailureTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private VerifiedToken parse(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        String tokenType = claims.get("tokenType", String.class);
+
+        if (tokenType == null) {
+            throw new IllegalArgumentException("Token has no tokenType claim");
+        }
+
+        return new VerifiedToken(
+                claims.getSubject(),
+                TokenType.valueOf(tokenType),
+                claims.getExpiration().toInstant(),
+                claims
+        );
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verifyToken(token).subject();
     }
 
     public TokenType extractTokenType(String token) {
-        String tokenType = extractClaim(token, claims -> claims.get("tokenType", String.class));
-        return TokenType.valueOf(tokenType);
+        return verifyToken(token).tokenType();
     }
 
     public Boolean validateAccessToken(String token, UserDetails userDetails) {
         return validateToken(token, userDetails, TokenType.ACCESS);
     }
 
+    public Boolean validateAccessToken(VerifiedToken token, UserDetails userDetails) {
+        return isValid(token, userDetails, TokenType.ACCESS);
+    }
+
     public Boolean validateRefreshToken(String token, UserDetails userDetails) {
         return validateToken(token, userDetails, TokenType.REFRESH);
     }
 
+    public Boolean validateRefreshToken(VerifiedToken token, UserDetails userDetails) {
+        return isValid(token, userDetails, TokenType.REFRESH);
+    }
+
     private Boolean validateToken(String token, UserDetails userDetails, TokenType expectedType) {
         try {
-            final String username = extractUsername(token);
-            final TokenType tokenType = extractTokenType(token);
-
-            return username.equals(userDetails.getUsername())
-                    && !isTokenExpired(token)
-                    && tokenType == expectedType;
+            return isValid(verifyToken(token), userDetails, expectedType);
         } catch (Exception e) {
             log.error("Token validation failed: {}", e.getMessage());
             return false;
         }
     }
 
-    public Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isValid(VerifiedToken token, UserDetails userDetails, TokenType expectedType) {
+        return token.subject() != null
+                && token.subject().equals(userDetails.getUsername())
+                && !token.isExpired()
+                && token.isOfType(expectedType);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public Boolean isTokenExpired(String token) {
+        return verifyToken(token).isExpired();
     }
-}
\ No newline at end of file
+}
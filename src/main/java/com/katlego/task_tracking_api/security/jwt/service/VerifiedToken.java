@@ -0,0 +1,21 @@
+package com.katlego.task_tracking_api.security.jwt.service;
+
+import com.katlego.task_tracking_api.security.entity.TokenType;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * Result of a single signature-checked parse of a JWT. Holds everything the
+ * callers need so the same token never has to be parsed twice.
+ */
+public record VerifiedToken(String subject, TokenType tokenType, Instant expiresAt, Claims claims) {
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+
+    public boolean isOfType(TokenType expectedType) {
+        return tokenType == expectedType;
+    }
+}
@@ -1,8 +1,10 @@
 package com.katlego.task_tracking_api.security.repository;
 
 import com.katlego.task_tracking_api.security.entity.RefreshToken;
-import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -11,11 +13,47 @@ import java.util.Optional;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByEmailAndToken(String email, String token);
+    // expires_at is the partition key, so the lookup touches a single partition.
+    Optional<RefreshToken> findByTokenHashAndExpiresAt(byte[] tokenHash, Instant expiresAt);
 
-    void deleteByEmail(String email);
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.email = :email")
+    int deleteByEmail(@Param("email") String email);
 
-    void deleteByEmailAndToken(String email, String token);
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :expirationTime")
+    int deleteByExpiresAtBefore(@Param("expirationTime") Instant expirationTime);
 
-    int deleteByExpiresAtBefore(Instant expirationTime);
-}
\ No newline at end of file
+    /*
+     * Validates and replaces a refresh token in one statement: the old row is only marked as
+     * replaced (and the new one inserted) if it exists, belongs to :email and has not been
+     * replaced yet. It is matched on
+     * (token_hash, expires_at) with the expiry taken from the token's exp claim, so only one
+     * partition is probed; an expired token never gets here because its JWT fails verification.
+     * Concurrent rotations of the same token serialize on the row lock; the losers see it
+     * already replaced and insert nothing. Returns the number of inserted rows (0 or 1).
+     */
+    @Modifying
+    @Query(value = """
+        WITH rotated AS (
+            UPDATE refresh_tokens
+            SET replaced_at = :now, replaced_by_hash = :newTokenHash
+            WHERE token_hash = :oldTokenHash
+            AND expires_at = :oldExpiresAt
+            AND email = :email
+            AND replaced_at IS NULL
+            RETURNING email
+        )
+        INSERT INTO refresh_tokens (email, token_hash, created_at, expires_at)
+        SELECT email, :newTokenHash, :now, :expiresAt
+        FROM rotated
+    """, nativeQuery = true)
+    int rotate(
+            @Param("email") String email,
+            @Param("oldTokenHash") byte[] oldTokenHash,
+            @Param("oldExpiresAt") Instant oldExpiresAt,
+            @Param("newTokenHash") byte[] newTokenHash,
+            @Param("now") Instant now,
+            @Param("expiresAt") Instant expiresAt
+    );
+}
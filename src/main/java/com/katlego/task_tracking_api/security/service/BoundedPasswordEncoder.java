@@ -0,0 +1,159 @@
+package com.katlego.task_tracking_api.security.service;
+
+import com.katlego.task_tracking_api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs a CPU-heavy {@link PasswordEncoder} (BCrypt) on a small dedicated pool instead of the
+ * request threads. The pool is fixed-size with a bounded queue: when both are full, or a caller
+ * waits longer than {@code maxWaitMs}, the call fails fast with {@link ServiceUnavailableException}
+ * (503) rather than piling up login traffic in front of the rest of the API.
+ * <p>
+ * Metrics: {@code auth.password.hash} (hashing time, tagged by operation),
+ * {@code auth.password.wait} (time spent queued for a pool thread), the
+ * {@code auth.password.pool.active}/{@code auth.password.pool.queued} gauges and the
+ * {@code auth.password.rejected} counter.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMs;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, long maxWaitMs,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxWaitMs = maxWaitMs;
+
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.waitTimer = Timer.builder("auth.password.wait")
+                .description("Time a hashing request waited for a pool thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.pool.active", this, BoundedPasswordEncoder::getActiveCount)
+                .description("Password hashing threads currently busy")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.pool.queued", this, BoundedPasswordEncoder::getQueueDepth)
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.password.rejected", rejectedCount, LongAdder::sum)
+                .description("Password hashing requests rejected with 503")
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("Password hashing time on the dedicated pool")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // Cheap (no hashing), so it stays on the calling thread.
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public long getHashCount() {
+        return encodeTimer.count() + matchesTimer.count();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer timer, Callable<T> hashing) {
+        Future<T> future;
+        long submittedAt = System.nanoTime();
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            return reject("Password hashing pool is saturated");
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return reject("Password hashing timed out after " + maxWaitMs + " ms");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return reject("Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private <T> T reject(String reason) {
+        rejectedCount.increment();
+        log.warn("{}; rejecting request (active={}, queued={})", reason, getActiveCount(), getQueueDepth());
+        throw new ServiceUnavailableException("Authentication is temporarily overloaded, please retry shortly");
+    }
+}
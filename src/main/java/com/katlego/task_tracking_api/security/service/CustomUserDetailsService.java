@@ -1,26 +1,56 @@
 package com.katlego.task_tracking_api.security.service;
 
+import com.katlego.task_tracking_api.common.RoleRegistry;
 import com.katlego.task_tracking_api.domain.User;
 import com.katlego.task_tracking_api.exception.ResourceNotFoundException;
 import com.katlego.task_tracking_api.repository.UserRepository;
 import com.katlego.task_tracking_api.security.entity.CustomUserDetails;
+import jakarta.transaction.Transactional;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RoleRegistry roleRegistry;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, UserPrincipalCache userPrincipalCache, RoleRegistry roleRegistry) {
         this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.roleRegistry = roleRegistry;
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmailWithRole(email)
+        return userPrincipalCache.get(email, this::loadFromDatabase);
+    }
+
+    /**
+     * Called by the authentication provider after a successful login when the stored hash uses
+     * a weaker BCrypt cost than configured; {@code newPassword} is already encoded.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new ResourceNotFoundException("User with email: " + user.getUsername() + " not found!"));
+        entity.setPasswordHash(newPassword);
+        userPrincipalCache.invalidate(entity.getEmail());
+
+        return toPrincipal(entity);
+    }
+
+    private CustomUserDetails loadFromDatabase(String email) {
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User with email: " + email + " not found!"));
-        return new CustomUserDetails(user);
+        return toPrincipal(user);
+    }
+
+    private CustomUserDetails toPrincipal(User user) {
+        return new CustomUserDetails(user, roleRegistry.nameOf(user.getRole().getId()));
     }
 }
@@ -0,0 +1,188 @@
+package com.katlego.task_tracking_api.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.katlego.task_tracking_api.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding-window throttle for login attempts, checked before any database or password work.
+ * Every attempt counts against the client IP; only failed attempts count against the
+ * (email, client IP) pair, and a successful login from that IP clears the pair's counter.
+ * Failures are deliberately not counted per account alone: that would let anyone lock a victim
+ * out by sending bad passwords for their email.
+ * <p>
+ * Each key has its own small counter object (one lock per key, so unrelated keys never contend),
+ * held in a size-bounded Caffeine cache that evicts keys idle for two windows.
+ */
+@Slf4j
+@Component
+public class LoginThrottle implements MeterBinder {
+
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxAttemptsPerIp;
+    private final int maxFailuresPerEmailAndIp;
+    private final LongSupplier clock;
+
+    private final Cache<String, SlidingWindow> ipWindows;
+    private final Cache<String, SlidingWindow> failureWindows;
+
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByEmail = new LongAdder();
+
+    @Autowired
+    public LoginThrottle(@Value("${app.auth.throttle.enabled:true}") boolean enabled,
+                         @Value("${app.auth.throttle.window-seconds:60}") long windowSeconds,
+                         @Value("${app.auth.throttle.max-attempts-per-ip:20}") int maxAttemptsPerIp,
+                         @Value("${app.auth.throttle.max-failures-per-email-and-ip:5}") int maxFailuresPerEmailAndIp,
+                         @Value("${app.auth.throttle.maximum-keys:100000}") long maximumKeys) {
+        this(enabled, windowSeconds, maxAttemptsPerIp, maxFailuresPerEmailAndIp, maximumKeys,
+                System::currentTimeMillis);
+    }
+
+    public LoginThrottle(boolean enabled, long windowSeconds, int maxAttemptsPerIp, int maxFailuresPerEmailAndIp,
+                         long maximumKeys, LongSupplier clock) {
+        this.enabled = enabled;
+        this.windowMs = Duration.ofSeconds(windowSeconds).toMillis();
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.maxFailuresPerEmailAndIp = maxFailuresPerEmailAndIp;
+        this.clock = clock;
+        this.ipWindows = newWindowCache(maximumKeys);
+        this.failureWindows = newWindowCache(maximumKeys);
+    }
+
+    /**
+     * Counts an attempt for {@code clientIp} and throws {@link TooManyRequestsException} if either
+     * the IP or the (email, IP) pair is over its limit.
+     */
+    public void acquire(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.getAsLong();
+
+        SlidingWindow failureWindow = failureWindows.getIfPresent(failureKey(email, clientIp));
+        if (failureWindow != null && failureWindow.estimate(now) >= maxFailuresPerEmailAndIp) {
+            rejectedByEmail.increment();
+            throw rejected("Too many failed login attempts for this account");
+        }
+
+        if (!ipWindows.get(clientIp, key -> new SlidingWindow(windowMs)).tryIncrement(now, maxAttemptsPerIp)) {
+            rejectedByIp.increment();
+            log.debug("Login throttled for IP {}", clientIp);
+            throw rejected("Too many login attempts from this address");
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        if (enabled) {
+            failureWindows.get(failureKey(email, clientIp), key -> new SlidingWindow(windowMs))
+                    .increment(clock.getAsLong());
+        }
+    }
+
+    public void recordSuccess(String email, String clientIp) {
+        if (enabled) {
+            failureWindows.invalidate(failureKey(email, clientIp));
+        }
+    }
+
+    public long getRejectedByIp() {
+        return rejectedByIp.sum();
+    }
+
+    public long getRejectedByEmail() {
+        return rejectedByEmail.sum();
+    }
+
+    public long getTrackedKeys() {
+        return ipWindows.estimatedSize() + failureWindows.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.login.throttled", rejectedByIp, LongAdder::sum)
+                .description("Login attempts rejected by the throttle")
+                .tag("scope", "ip")
+                .register(registry);
+        FunctionCounter.builder("auth.login.throttled", rejectedByEmail, LongAdder::sum)
+                .description("Login attempts rejected by the throttle")
+                .tag("scope", "email")
+                .register(registry);
+        Gauge.builder("auth.login.throttle.keys", this, LoginThrottle::getTrackedKeys)
+                .description("IP and (email, IP) keys currently tracked by the throttle")
+                .register(registry);
+    }
+
+    private TooManyRequestsException rejected(String message) {
+        return new TooManyRequestsException(message, Duration.ofMillis(windowMs).toSeconds());
+    }
+
+    private Cache<String, SlidingWindow> newWindowCache(long maximumKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(Duration.ofMillis(windowMs * 2))
+                .build();
+    }
+
+    private static String failureKey(String email, String clientIp) {
+        return (email == null ? "" : email.trim().toLowerCase(Locale.ROOT)) + '|' + clientIp;
+    }
+
+    /**
+     * Sliding-window counter approximated from the current and previous fixed windows: the previous
+     * count is weighted by how much of it still overlaps the sliding window.
+     */
+    static final class SlidingWindow {
+        private final long windowMs;
+        private long windowIndex;
+        private int currentCount;
+        private int previousCount;
+
+        SlidingWindow(long windowMs) {
+            this.windowMs = windowMs;
+        }
+
+        synchronized int estimate(long now) {
+            roll(now);
+            double previousWeight = 1.0 - (double) (now % windowMs) / windowMs;
+            return (int) (previousCount * previousWeight) + currentCount;
+        }
+
+        synchronized void increment(long now) {
+            roll(now);
+            currentCount++;
+        }
+
+        synchronized boolean tryIncrement(long now, int limit) {
+            if (estimate(now) >= limit) {
+                return false;
+            }
+            currentCount++;
+            return true;
+        }
+
+        private void roll(long now) {
+            long index = now / windowMs;
+            if (index == windowIndex) {
+                return;
+            }
+            previousCount = index == windowIndex + 1 ? currentCount : 0;
+            currentCount = 0;
+            windowIndex = index;
+        }
+    }
+}
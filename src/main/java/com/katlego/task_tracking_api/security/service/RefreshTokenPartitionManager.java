@@ -0,0 +1,105 @@
+package com.katlego.task_tracking_api.security.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Maintains the daily range partitions of {@code refresh_tokens} (see V13). Dates come from the
+ * database ({@code CURRENT_DATE}) so partition bounds use the same clock and time zone as the
+ * stored {@code expires_at} values.
+ */
+@Slf4j
+@Service
+public class RefreshTokenPartitionManager {
+
+    static final String PARTITION_PREFIX = "refresh_tokens_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int precreateDays;
+
+    public RefreshTokenPartitionManager(DataSource dataSource,
+                                        @Value("${app.auth.refresh-token-partitions.precreate-days:14}") int precreateDays) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.precreateDays = precreateDays;
+    }
+
+    /**
+     * Creates the partitions for today and the next {@code precreate-days} days if missing.
+     * Returns the number of partitions created.
+     */
+    public int createUpcomingPartitions() {
+        LocalDate today = currentDate();
+        int created = 0;
+
+        for (int i = 0; i <= precreateDays; i++) {
+            LocalDate day = today.plusDays(i);
+            String partition = partitionName(day);
+            if (partitionExists(partition)) {
+                continue;
+            }
+
+            try {
+                jdbcTemplate.execute("CREATE TABLE " + partition
+                        + " PARTITION OF refresh_tokens FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+                created++;
+            } catch (DataAccessException e) {
+                // Usually rows for that day already landed in the default partition; they are
+                // still valid there and get removed by the bulk delete once expired.
+                log.warn("Could not create refresh token partition {}", partition, e);
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Detaches and drops every daily partition whose whole range lies before today, i.e. whose
+     * tokens have all expired. Returns the number of partitions dropped.
+     */
+    public int dropExpiredPartitions() {
+        LocalDate today = currentDate();
+        int dropped = 0;
+
+        for (String partition : listDailyPartitions()) {
+            LocalDate day = LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            if (!day.plusDays(1).isAfter(today)) {
+                jdbcTemplate.execute("ALTER TABLE refresh_tokens DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                dropped++;
+                log.debug("Dropped expired refresh token partition {}", partition);
+            }
+        }
+        return dropped;
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+    }
+
+    private LocalDate currentDate() {
+        return jdbcTemplate.queryForObject("SELECT CURRENT_DATE", LocalDate.class);
+    }
+
+    private boolean partitionExists(String partition) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+    }
+
+    private List<String> listDailyPartitions() {
+        return jdbcTemplate.queryForList("""
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'refresh_tokens'::regclass
+            AND c.relname ~ '^refresh_tokens_p[0-9]{8}$'
+            ORDER BY c.relname
+        """, String.class);
+    }
+}
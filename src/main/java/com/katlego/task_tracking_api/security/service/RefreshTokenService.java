@@ -3,58 +3,108 @@ package com.katlego.task_tracking_api.security.service;
 import com.katlego.task_tracking_api.security.entity.RefreshToken;
 import com.katlego.task_tracking_api.security.repository.RefreshTokenRepository;
 import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Optional;
 
+@Slf4j
 @Service
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
-    private final int refreshTokenExpirationMs;
+    private final UserPrincipalCache userPrincipalCache;
+    private final Duration reuseGracePeriod;
 
     public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
-                               @Value("${app.jwt.refresh-token-expiration-ms}") int refreshTokenExpirationMs) {
+                               UserPrincipalCache userPrincipalCache,
+                               @Value("${app.jwt.refresh-reuse-grace-ms:10000}") long reuseGraceMs) {
         this.refreshTokenRepository = refreshTokenRepository;
-        this.refreshTokenExpirationMs = refreshTokenExpirationMs;
+        this.userPrincipalCache = userPrincipalCache;
+        this.reuseGracePeriod = Duration.ofMillis(reuseGraceMs);
     }
 
+    /**
+     * {@code expiresAt} must be the token's {@code exp} claim: it is the partition key, and
+     * rotation finds the row again by (token_hash, expires_at).
+     */
     @Transactional
-    public void saveRefreshToken(String email, String token) {
+    public void saveRefreshToken(String email, String token, Instant expiresAt) {
         refreshTokenRepository.deleteByEmail(email);
 
-        Instant now = Instant.now();
-
         RefreshToken refreshToken = new RefreshToken();
         refreshToken.setEmail(email);
-        refreshToken.setToken(token);
-        refreshToken.setCreatedAt(now);
-        refreshToken.setExpiresAt(now.plusMillis(refreshTokenExpirationMs));
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setCreatedAt(Instant.now());
+        refreshToken.setExpiresAt(expiresAt);
 
         refreshTokenRepository.save(refreshToken);
     }
 
-    public boolean isRefreshTokenValid(String email, String token) {
-        Optional<RefreshToken> refreshToken =
-                refreshTokenRepository.findByEmailAndToken(email, token);
+    /**
+     * Replaces {@code oldToken} with {@code newToken} in a single statement; the old row is kept,
+     * marked as replaced. If it was already replaced by another request less than the grace period
+     * ago (concurrent refreshes, a client retrying after a lost response), nothing is revoked and
+     * {@link RotationResult#ALREADY_ROTATED} tells the caller to retry with the newer token. Any
+     * other token that is not stored, or a second use after the grace period, is treated as a
+     * replayed token and every refresh token of the user is revoked.
+     */
+    @Transactional
+    public RotationResult rotateRefreshToken(String email,
+                                             String oldToken, Instant oldExpiresAt,
+                                             String newToken, Instant newExpiresAt) {
+        Instant now = Instant.now();
+        byte[] oldTokenHash = hash(oldToken);
 
-        return refreshToken.isPresent() && !refreshToken.get().isExpired();
-    }
+        int rotated = refreshTokenRepository.rotate(
+                email,
+                oldTokenHash,
+                oldExpiresAt,
+                hash(newToken),
+                now,
+                newExpiresAt
+        );
+        if (rotated == 1) {
+            return RotationResult.ROTATED;
+        }
 
-    @Transactional
-    public void rotateRefreshToken(String email, String oldToken, String newToken) {
-        refreshTokenRepository.deleteByEmailAndToken(email, oldToken);
-        saveRefreshToken(email, newToken);
+        // Runs after the winning rotation committed (the UPDATE waited on its row lock), so its mark is visible.
+        boolean recentlyReplaced = refreshTokenRepository.findByTokenHashAndExpiresAt(oldTokenHash, oldExpiresAt)
+                .filter(token -> token.getEmail().equals(email))
+                .map(RefreshToken::getReplacedAt)
+                .filter(replacedAt -> replacedAt.plus(reuseGracePeriod).isAfter(now))
+                .isPresent();
+        if (recentlyReplaced) {
+            log.info("Refresh token of {} was rotated moments ago by another request", email);
+            return RotationResult.ALREADY_ROTATED;
+        }
+
+        log.warn("Refresh token reuse detected for {}; revoking all refresh tokens", email);
+        deleteRefreshToken(email);
+        return RotationResult.REUSE_DETECTED;
     }
 
     @Transactional
     public void deleteRefreshToken(String email) {
         refreshTokenRepository.deleteByEmail(email);
+        userPrincipalCache.invalidate(email);
     }
 
     public int deleteExpiredTokens() {
         return refreshTokenRepository.deleteByExpiresAtBefore(Instant.now());
     }
+
+    // Must stay byte-for-byte compatible with sha256(convert_to(token, 'UTF8')) used in V12.
+    public static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.katlego.task_tracking_api.security.service;
+
+public enum RotationResult {
+    ROTATED,
+    /**
+     * The presented token was rotated by another request within the grace window (two tabs
+     * refreshing at once, a retry after a lost response). Nothing was revoked; the client should
+     * retry with the refresh token that request received.
+     */
+    ALREADY_ROTATED,
+    /**
+     * The presented token is unknown, revoked, or was rotated longer ago than the grace window.
+     * All refresh tokens of the user have been revoked.
+     */
+    REUSE_DETECTED
+}
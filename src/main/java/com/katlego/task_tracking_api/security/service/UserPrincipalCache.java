@@ -0,0 +1,61 @@
+package com.katlego.task_tracking_api.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.katlego.task_tracking_api.security.entity.CustomUserDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Size-bounded, TTL-based cache of authenticated principals keyed by email.
+ * Anything that changes a user's credentials or role must call {@link #invalidate(String)}.
+ */
+@Component
+public class UserPrincipalCache implements MeterBinder {
+
+    private final Cache<String, CustomUserDetails> cache;
+
+    public UserPrincipalCache(@Value("${app.auth.principal-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${app.auth.principal-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        return cache.get(email, loader);
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Hit, miss, load and eviction counts since startup.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user-principals");
+    }
+}
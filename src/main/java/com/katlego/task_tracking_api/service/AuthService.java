@@ -1,134 +1,161 @@
 package com.katlego.task_tracking_api.service;
 
+import com.katlego.task_tracking_api.common.RoleRegistry;
 import com.katlego.task_tracking_api.domain.Role;
 import com.katlego.task_tracking_api.domain.User;
 import com.katlego.task_tracking_api.dto.auth.AuthResponse;
 import com.katlego.task_tracking_api.dto.auth.LoginRequest;
 import com.katlego.task_tracking_api.dto.auth.RefreshTokenRequest;
 import com.katlego.task_tracking_api.dto.auth.SignupRequest;
-import com.katlego.task_tracking_api.exception.ResourceAlreadyExistException;
+import com.katlego.task_tracking_api.exception.ConflictException;
+import com.katlego.task_tracking_api.exception.RefreshTokenReuseException;
 import com.katlego.task_tracking_api.exception.ResourceNotFoundException;
 import com.katlego.task_tracking_api.mapper.AuthenticationMapper;
-import com.katlego.task_tracking_api.repository.RoleRepository;
 import com.katlego.task_tracking_api.repository.UserRepository;
 import com.katlego.task_tracking_api.security.entity.CustomUserDetails;
+import com.katlego.task_tracking_api.security.jwt.service.IssuedToken;
 import com.katlego.task_tracking_api.security.jwt.service.JwtService;
+import com.katlego.task_tracking_api.security.jwt.service.VerifiedToken;
+import com.katlego.task_tracking_api.security.service.LoginThrottle;
 import com.katlego.task_tracking_api.security.service.RefreshTokenService;
+import com.katlego.task_tracking_api.security.service.RotationResult;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.Map;
 
 @Slf4j
 @Service
 public class AuthService {
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
     private final AuthenticationMapper authenticationMapper;
     private final AuthenticationManager authenticationManager;
+    private final LoginThrottle loginThrottle;
 
-    public AuthService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder, JwtService jwtService, RefreshTokenService refreshTokenService, AuthenticationMapper authenticationMapper, AuthenticationManager authenticationManager) {
+    public AuthService(UserRepository userRepository, RoleRegistry roleRegistry, PasswordEncoder passwordEncoder, JwtService jwtService, RefreshTokenService refreshTokenService, AuthenticationMapper authenticationMapper, AuthenticationManager authenticationManager, LoginThrottle loginThrottle) {
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.refreshTokenService = refreshTokenService;
         this.authenticationMapper = authenticationMapper;
         this.authenticationManager = authenticationManager;
+        this.loginThrottle = loginThrottle;
     }
 
     public AuthResponse signup(SignupRequest request) {
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new ResourceAlreadyExistException("Email already exists: "+request.getEmail());
-        }
-
-        if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            throw new ResourceAlreadyExistException("Username already exists: "+request.getUsername());
-        }
-
-        Role userRole = roleRepository.findByName("USER")
-                .orElseThrow(() -> new IllegalStateException("Default role not configured"));
+        Role userRole = roleRegistry.reference("USER");
 
         User user = authenticationMapper.toUser(request);
         user.setRole(userRole);
         user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
-        userRepository.save(user);
 
-        return generateTokens(user, null);
+        // Duplicate email/username is detected by the unique constraints on insert.
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw UserConstraints.translate(e, request.getEmail(), request.getUsername());
+        }
+
+        return generateTokens(new CustomUserDetails(user, roleName(user)), null, null);
     }
 
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientIp) {
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()
-                )
-        );
+        // Rejects throttled attempts before any user lookup or BCrypt work.
+        loginThrottle.acquire(request.getEmail(), clientIp);
 
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getEmail(),
+                            request.getPassword()
+                    )
+            );
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailure(request.getEmail(), clientIp);
+            throw e;
+        }
+        loginThrottle.recordSuccess(request.getEmail(), clientIp);
+
+        // The principal was just loaded by the authentication provider and carries the id and role.
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new IllegalStateException(
-                        "Authenticated user not found in database"
-                ));
 
-        return generateTokens(user, null);
+        return generateTokens(userDetails, null, null);
     }
 
-    @Transactional
+    // The revocation done on reuse must survive the exception that reports it.
+    @Transactional(dontRollbackOn = RefreshTokenReuseException.class)
     public AuthResponse refreshToken(RefreshTokenRequest request) {
 
         String refreshToken = request.getRefreshToken();
 
-        String email = jwtService.extractUsername(refreshToken);
+        VerifiedToken verifiedToken = jwtService.verifyToken(refreshToken);
+        String email = verifiedToken.subject();
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        CustomUserDetails userDetails = new CustomUserDetails(user);
+        CustomUserDetails userDetails = new CustomUserDetails(user, roleName(user));
 
-        if (!jwtService.validateRefreshToken(refreshToken, userDetails)) {
+        if (!jwtService.validateRefreshToken(verifiedToken, userDetails)) {
             throw new IllegalStateException("Invalid refresh token");
         }
 
-        if (!refreshTokenService.isRefreshTokenValid(email, refreshToken)) {
-            throw new IllegalStateException("Refresh token not recognized");
-        }
-
-        return generateTokens(user, refreshToken);
+        return generateTokens(userDetails, refreshToken, verifiedToken.expiresAt());
     }
 
-    private AuthResponse generateTokens(User user, String oldRefreshToken) {
+    private AuthResponse generateTokens(CustomUserDetails user, String oldRefreshToken, Instant oldExpiresAt) {
         Map<String, Object> claims = buildClaims(user);
 
-        String accessToken = jwtService.generateAccessToken(user.getEmail(), claims);
-        String refreshToken = jwtService.generateRefreshToken(user.getEmail());
+        String accessToken = jwtService.generateAccessToken(user.getUsername(), claims);
+        IssuedToken refreshToken = jwtService.generateRefreshToken(user.getUsername());
 
         if (oldRefreshToken == null) {
-            refreshTokenService.saveRefreshToken(user.getEmail(), refreshToken);
+            refreshTokenService.saveRefreshToken(user.getUsername(), refreshToken.token(), refreshToken.expiresAt());
         } else {
-            refreshTokenService.rotateRefreshToken(
-                    user.getEmail(),
+            RotationResult result = refreshTokenService.rotateRefreshToken(
+                    user.getUsername(),
                     oldRefreshToken,
-                    refreshToken
+                    oldExpiresAt,
+                    refreshToken.token(),
+                    refreshToken.expiresAt()
             );
+            if (result == RotationResult.ALREADY_ROTATED) {
+                throw new ConflictException(
+                        "Refresh token was just rotated by another request; retry with the latest refresh token");
+            }
+            if (result == RotationResult.REUSE_DETECTED) {
+                throw new RefreshTokenReuseException("Refresh token is no longer valid; please log in again");
+            }
         }
 
-        return new AuthResponse(accessToken, refreshToken);
+        return new AuthResponse(accessToken, refreshToken.token());
     }
 
-    private Map<String, Object> buildClaims(User user) {
+    private Map<String, Object> buildClaims(CustomUserDetails user) {
         return Map.of(
-                "username", user.getUsername(),
-                "role", user.getRole().getName()
+                "userId", user.getId(),
+                "username", user.getName(),
+                "role", user.getRole()
         );
     }
+
+    // Only the role id is read from the lazy association, so no extra query is issued.
+    private String roleName(User user) {
+        return roleRegistry.nameOf(user.getRole().getId());
+    }
 }
\ No newline at end of file
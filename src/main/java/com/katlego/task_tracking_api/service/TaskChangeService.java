@@ -0,0 +1,130 @@
+package com.katlego.task_tracking_api.service;
+
+import com.katlego.task_tracking_api.common.AuthenticatedUserComponent;
+import com.katlego.task_tracking_api.domain.TaskTombstone;
+import com.katlego.task_tracking_api.dto.task.TaskChangeCursor;
+import com.katlego.task_tracking_api.dto.task.TaskChangePage;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.exception.GoneException;
+import com.katlego.task_tracking_api.repository.TaskRepository;
+import com.katlego.task_tracking_api.repository.TaskTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delta sync of the authenticated user's tasks: everything created, changed or removed from their
+ * list since a cursor, in (updated_at, id) order.
+ * <p>
+ * Only rows older than the settle window are returned. A write is stamped before its transaction
+ * commits, so without the window a client could advance past a row that becomes visible later
+ * with an older timestamp. The window only holds if no transaction outlives it, so startup fails
+ * unless {@code spring.transaction.default-timeout} is set below it. Removals come from tombstones,
+ * which are kept for the retention period; a cursor older than that gets 410 and the client starts
+ * over with a full sync.
+ */
+@Service
+public class TaskChangeService {
+
+    private record Change(Instant at, Long taskId, TaskResponse task) {
+    }
+
+    private static final Comparator<Change> ORDER =
+            Comparator.comparing(Change::at).thenComparing(Change::taskId);
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final AuthenticatedUserComponent authenticatedUserComponent;
+    private final Duration settleWindow;
+    private final Duration tombstoneRetention;
+
+    public TaskChangeService(TaskRepository taskRepository,
+                             TaskTombstoneRepository taskTombstoneRepository,
+                             AuthenticatedUserComponent authenticatedUserComponent,
+                             @Value("${app.task.changes.settle-ms:5000}") long settleMs,
+                             @Value("${app.task.changes.tombstone-retention-days:30}") long tombstoneRetentionDays,
+                             @Value("${spring.transaction.default-timeout:0s}") Duration transactionTimeout) {
+        if (transactionTimeout.isZero() || transactionTimeout.isNegative()
+                || transactionTimeout.toMillis() >= settleMs) {
+            throw new IllegalStateException("spring.transaction.default-timeout (" + transactionTimeout
+                    + ") must be set and shorter than app.task.changes.settle-ms (" + settleMs + " ms)");
+        }
+        this.taskRepository = taskRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.authenticatedUserComponent = authenticatedUserComponent;
+        this.settleWindow = Duration.ofMillis(settleMs);
+        this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+    }
+
+    public TaskChangePage getMyTaskChanges(String since, int size) {
+        TaskChangeCursor after = TaskChangeCursor.decode(since);
+        Instant now = Instant.now();
+        if (after != TaskChangeCursor.START && after.updatedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new GoneException("Cursor is older than " + tombstoneRetention.toDays()
+                    + " days; sync again without a cursor.");
+        }
+
+        Long userId = authenticatedUserComponent.getCurrentUserId();
+        Instant until = now.minus(settleWindow);
+        int pageSize = Math.clamp(size, 1, TaskService.MAX_PAGE_SIZE);
+        // One extra row per source tells whether another page exists.
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Change> changes = new ArrayList<>();
+        taskRepository.findAssignedTaskChanges(userId, after.updatedAt(), after.id(), until, limit)
+                .forEach(task -> changes.add(new Change(task.getUpdatedAt(), task.getId(), task)));
+        taskTombstoneRepository.findRemovedSince(userId, after.updatedAt(), after.id(), until, limit)
+                .forEach(tombstone -> changes.add(toChange(tombstone)));
+        changes.sort(ORDER);
+
+        boolean hasMore = changes.size() > pageSize;
+        List<Change> page = hasMore ? changes.subList(0, pageSize) : changes;
+        return toChangePage(page, nextCursor(page, after, until, hasMore), hasMore);
+    }
+
+    private static Change toChange(TaskTombstone tombstone) {
+        return new Change(tombstone.getRemovedAt(), tombstone.getTaskId(), null);
+    }
+
+    /*
+     * Without more rows every change up to "until" has been returned, so the cursor moves to
+     * "until" itself. Idle clients then keep a recent cursor instead of running into the
+     * tombstone retention limit.
+     */
+    private static TaskChangeCursor nextCursor(List<Change> page, TaskChangeCursor after, Instant until, boolean hasMore) {
+        if (hasMore) {
+            Change last = page.getLast();
+            return new TaskChangeCursor(last.at(), last.taskId());
+        }
+        return until.isAfter(after.updatedAt()) ? new TaskChangeCursor(until, Long.MAX_VALUE) : after;
+    }
+
+    // A task that changed more than once within the page is reported by its latest change only.
+    private static TaskChangePage toChangePage(List<Change> page, TaskChangeCursor next, boolean hasMore) {
+        Map<Long, Change> latest = new LinkedHashMap<>();
+        for (Change change : page) {
+            latest.remove(change.taskId());
+            latest.put(change.taskId(), change);
+        }
+
+        List<TaskResponse> changed = new ArrayList<>();
+        List<Long> removedTaskIds = new ArrayList<>();
+        for (Change change : latest.values()) {
+            if (change.task() != null) {
+                changed.add(change.task());
+            } else {
+                removedTaskIds.add(change.taskId());
+            }
+        }
+        return new TaskChangePage(changed, removedTaskIds, next.encode(), hasMore);
+    }
+}
@@ -0,0 +1,257 @@
+package com.katlego.task_tracking_api.service;
+
+import com.katlego.task_tracking_api.dto.task.TaskEvent;
+import com.katlego.task_tracking_api.dto.task.TaskEventType;
+import com.katlego.task_tracking_api.exception.ServiceUnavailableException;
+import com.katlego.task_tracking_api.repository.OverdueTaskView;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process fan-out of task events to the SSE streams of the users they concern.
+ * <p>
+ * Streams are async-servlet {@link SseEmitter}s, so an idle subscriber holds a connection and a
+ * small buffer but no thread. Publishing never blocks: the event is offered to each subscriber's
+ * bounded buffer and a drain task is started on a virtual thread if none is running. A subscriber
+ * whose buffer is full is too slow to keep up; its stream is closed and the client is expected to
+ * reconnect and re-read its tasks. Events are not persisted, so anything published while a client
+ * is disconnected is missed.
+ */
+@Component
+@Slf4j
+public class TaskEventBus implements MeterBinder {
+
+    private record Queued(long id, TaskEvent event) {
+    }
+
+    private static final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Queued> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean hasPending() {
+            return !buffer.isEmpty() || heartbeatPending.get();
+        }
+    }
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final ExecutorService sender;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+
+    @Autowired
+    public TaskEventBus(@Value("${app.task.stream.buffer-size:256}") int bufferSize,
+                        @Value("${app.task.stream.max-subscribers:50000}") int maxSubscribers,
+                        @Value("${app.task.stream.timeout-ms:1800000}") long timeoutMs) {
+        this(bufferSize, maxSubscribers, timeoutMs, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public TaskEventBus(int bufferSize, int maxSubscribers, long timeoutMs, ExecutorService sender) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.sender = sender;
+    }
+
+    /**
+     * Opens a stream for the user. The first frame is a comment so proxies and clients see the
+     * response start immediately.
+     *
+     * @throws ServiceUnavailableException if the node already holds max-subscribers streams
+     */
+    public SseEmitter subscribe(Long userId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many open task streams. Please try again later.");
+        }
+
+        Subscriber subscriber = new Subscriber(userId, new SseEmitter(timeoutMs), bufferSize);
+        subscribers.compute(userId, (id, userSubscribers) -> {
+            Set<Subscriber> set = userSubscribers != null ? userSubscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+        // Completing on timeout ends the stream normally (removal runs via onCompletion) instead of
+        // surfacing AsyncRequestTimeoutException on an already committed event stream.
+        subscriber.emitter.onTimeout(subscriber.emitter::complete);
+
+        subscriber.heartbeatPending.set(true);
+        scheduleDrain(subscriber);
+        return subscriber.emitter;
+    }
+
+    public void publish(Long userId, TaskEvent event) {
+        if (userId == null) {
+            return;
+        }
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+
+        Queued queued = new Queued(eventSequence.incrementAndGet(), event);
+        for (Subscriber subscriber : userSubscribers) {
+            if (subscriber.buffer.offer(queued)) {
+                scheduleDrain(subscriber);
+            } else {
+                drop(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Notifies the assignees of tasks flipped to OVERDUE by a bulk update.
+     */
+    public void publishOverdue(List<OverdueTaskView> marked) {
+        Instant now = Instant.now();
+        for (OverdueTaskView task : marked) {
+            publish(task.getAssignedUserId(),
+                    new TaskEvent(TaskEventType.OVERDUE, task.getId(), task.getVersion(), null, now));
+        }
+    }
+
+    // Keeps idle connections from being closed by proxies and detects clients that went away.
+    @Scheduled(fixedDelayString = "${app.task.stream.heartbeat-interval-ms:30000}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            subscriber.heartbeatPending.set(true);
+            scheduleDrain(subscriber);
+        }));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("task.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open task event streams")
+                .register(registry);
+        FunctionCounter.builder("task.stream.events.delivered", deliveredCount, AtomicLong::get)
+                .description("Task events written to subscriber streams")
+                .register(registry);
+        FunctionCounter.builder("task.stream.dropped", droppedCount, AtomicLong::get)
+                .description("Streams closed because the subscriber's buffer was full")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            remove(subscriber);
+            subscriber.emitter.complete();
+        }));
+        sender.shutdownNow();
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        droppedCount.incrementAndGet();
+        log.debug("Closing task stream of user {}: {} events buffered", subscriber.userId, bufferSize);
+        remove(subscriber);
+        // complete() waits for an in-flight send, so it must not run on the publishing thread.
+        execute(subscriber.emitter::complete);
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        subscriber.buffer.clear();
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true) && !execute(() -> drain(subscriber))) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    private boolean execute(Runnable task) {
+        try {
+            sender.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // At most one drain runs per subscriber, so frames are written in publish order.
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                if (subscriber.heartbeatPending.getAndSet(false) && !subscriber.closed.get()) {
+                    subscriber.emitter.send(SseEmitter.event().comment("keepalive"));
+                }
+                Queued queued;
+                while (!subscriber.closed.get() && (queued = subscriber.buffer.poll()) != null) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(Long.toString(queued.id()))
+                            .name(queued.event().getType().name())
+                            .data(queued.event(), MediaType.APPLICATION_JSON));
+                    deliveredCount.incrementAndGet();
+                }
+                subscriber.draining.set(false);
+                // Re-check after releasing the flag: a publish may have seen it still set and skipped scheduling.
+            } while (!subscriber.closed.get() && subscriber.hasPending() && subscriber.draining.compareAndSet(false, true));
+        } catch (Exception e) {
+            log.debug("Task stream of user {} closed: {}", subscriber.userId, e.getMessage());
+            remove(subscriber);
+        }
+    }
+}
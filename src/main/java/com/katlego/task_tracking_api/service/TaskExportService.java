@@ -0,0 +1,113 @@
+package com.katlego.task_tracking_api.service;
+
+import com.katlego.task_tracking_api.dto.task.TaskExportFormat;
+import com.katlego.task_tracking_api.dto.task.TaskFilter;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.repository.TaskRepository;
+import com.katlego.task_tracking_api.repository.TaskSpecifications;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes tasks to an output stream row by row, so memory use does not depend on the number of tasks.
+ */
+@Slf4j
+@Service
+public class TaskExportService {
+    private static final String CSV_HEADER =
+            "id,title,description,status,dueDate,createdDate,assignedUserId,assignedUsername";
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TaskExportService(TaskRepository taskRepository,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${app.task.export.fetch-size:1000}") int fetchSize,
+                             @Value("${app.task.export.timeout-seconds:3600}") int timeoutSeconds) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Exempt from spring.transaction.default-timeout: a read-only export stamps nothing and may stream for minutes.
+        this.readOnlyTransaction.setTimeout(timeoutSeconds);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    public void exportTasks(TaskFilter filter, TaskExportFormat format, OutputStream outputStream) {
+        // The JDBC cursor only streams inside a transaction, so the whole export runs in one.
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+            try (Stream<TaskResponse> tasks = taskRepository.streamTaskResponses(
+                    TaskSpecifications.fromFilter(filter), fetchSize)) {
+
+                if (format == TaskExportFormat.CSV) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+
+                long written = 0;
+                Iterator<TaskResponse> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(format == TaskExportFormat.CSV ? toCsvRow(iterator.next()) : toJsonLine(iterator.next()));
+                    writer.write('\n');
+
+                    if (++written % fetchSize == 0) {
+                        writer.flush();
+                    }
+                }
+
+                writer.flush();
+                log.info("Exported {} task(s) as {}", written, format);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Task export aborted", e);
+            }
+        });
+    }
+
+    private String toJsonLine(TaskResponse task) {
+        return objectMapper.writeValueAsString(task);
+    }
+
+    private String toCsvRow(TaskResponse task) {
+        return String.join(",",
+                csv(task.getId()),
+                csv(task.getTitle()),
+                csv(task.getDescription()),
+                csv(task.getStatus()),
+                csv(task.getDueDate()),
+                csv(task.getCreatedDate()),
+                csv(task.getAssignedUserId()),
+                csv(task.getAssignedUsername())
+        );
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,168 @@
+package com.katlego.task_tracking_api.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Size-bounded, TTL-based read-through cache of {@link TaskResponse} keyed by task id.
+ * <p>
+ * Concurrent misses for the same id share a single load: the first caller maps the id to a future
+ * and runs the query on its own thread, later callers wait on that future. No map lock is held
+ * during the query, so slow loads do not block other ids (or pin a virtual thread's carrier).
+ * Writes that go through {@link TaskService} replace or drop the entry after commit. Bulk SQL
+ * updates that bypass the entities call {@link #invalidateAll()}, which also bumps a generation
+ * counter: a load or write that read the row before the bulk update but finishes after it is
+ * tagged with the old generation and never served. The TTL bounds staleness from writes this
+ * instance never sees (other instances, manual SQL).
+ */
+@Component
+public class TaskResponseCache implements MeterBinder {
+
+    // failure is set only on the future handed to callers that shared a failed load; it is never cached.
+    private record Entry(long generation, TaskResponse response, RuntimeException failure) {
+
+        private Entry(long generation, TaskResponse response) {
+            this(generation, response, null);
+        }
+    }
+
+    private final AsyncCache<Long, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public TaskResponseCache(@Value("${app.task.cache.maximum-size:10000}") long maximumSize,
+                             @Value("${app.task.cache.expire-after-write-seconds:60}") long expireAfterWriteSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .buildAsync();
+    }
+
+    public TaskResponse get(Long taskId, Function<Long, TaskResponse> loader) {
+        CompletableFuture<Entry> future = load(taskId, loader);
+        Entry entry = join(future);
+        if (entry.generation() == generation.get()) {
+            return entry.response();
+        }
+
+        // Loaded before the last bulk update: drop it (unless already replaced) and load once more.
+        cache.asMap().remove(taskId, future);
+        return join(load(taskId, loader)).response();
+    }
+
+    // The mapping function only installs a future; the query runs outside of any map lock.
+    private CompletableFuture<Entry> load(Long taskId, Function<Long, TaskResponse> loader) {
+        long current = generation.get();
+        CompletableFuture<Entry> own = new CompletableFuture<>();
+        CompletableFuture<Entry> shared = cache.get(taskId, (id, executor) -> own);
+
+        if (shared == own) {
+            try {
+                own.complete(new Entry(current, loader.apply(taskId)));
+            } catch (RuntimeException e) {
+                // Removed rather than completed exceptionally, which the cache would log as a warning (every 404).
+                cache.asMap().remove(taskId, own);
+                own.complete(new Entry(current, null, e));
+                throw e;
+            }
+        }
+        return shared;
+    }
+
+    private static Entry join(CompletableFuture<Entry> future) {
+        Entry entry = future.join();
+        if (entry.failure() != null) {
+            throw entry.failure();
+        }
+        return entry;
+    }
+
+    /**
+     * Cached entry of the current generation, without loading.
+     */
+    public TaskResponse getIfPresent(Long taskId) {
+        Entry entry = completed(cache.getIfPresent(taskId));
+        return entry != null && entry.generation() == generation.get() ? entry.response() : null;
+    }
+
+    /**
+     * Stores a freshly written task. {@code generationBeforeWrite} is {@link #generation()} read
+     * before the write: if a bulk update ran in between, the response may already be stale and
+     * is not cached. An entry with a newer version is kept, so two racing updates cannot leave
+     * the older one cached.
+     */
+    public void put(TaskResponse task, long generationBeforeWrite) {
+        if (generation.get() != generationBeforeWrite) {
+            invalidate(task.getId());
+            return;
+        }
+
+        // Tagged with the generation read before the write, so a bulk update racing this put still wins.
+        CompletableFuture<Entry> fresh = CompletableFuture.completedFuture(new Entry(generationBeforeWrite, task));
+        cache.asMap().merge(task.getId(), fresh, (existing, replacement) -> {
+            Entry current = completed(existing);
+            return current != null && current.generation() == generationBeforeWrite
+                    && isNewer(current.response(), task) ? existing : replacement;
+        });
+    }
+
+    public void invalidate(Long taskId) {
+        cache.synchronous().invalidate(taskId);
+    }
+
+    public void invalidate(Collection<Long> taskIds) {
+        cache.synchronous().invalidateAll(taskIds);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * Hit, miss, load and eviction counts since startup.
+     */
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "tasks");
+        Gauge.builder("cache.tasks.generation", generation, AtomicLong::get)
+                .description("Bulk invalidations of the task cache since startup")
+                .register(registry);
+    }
+
+    private static Entry completed(CompletableFuture<Entry> future) {
+        Entry entry = future != null && future.isDone() ? future.join() : null;
+        return entry != null && entry.failure() == null ? entry : null;
+    }
+
+    private static boolean isNewer(TaskResponse cached, TaskResponse written) {
+        return cached.getVersion() != null && written.getVersion() != null
+                && cached.getVersion() > written.getVersion();
+    }
+}
@@ -2,126 +2,403 @@ package com.katlego.task_tracking_api.service;
 
 import com.katlego.task_tracking_api.common.AuthenticatedUserComponent;
 import com.katlego.task_tracking_api.domain.Task;
+import com.katlego.task_tracking_api.domain.TaskTombstone;
 import com.katlego.task_tracking_api.domain.User;
+import com.katlego.task_tracking_api.dto.task.TaskAssignItem;
 import com.katlego.task_tracking_api.dto.task.TaskAssignRequest;
+import com.katlego.task_tracking_api.dto.task.TaskCursor;
+import com.katlego.task_tracking_api.dto.task.TaskCursorPage;
 import com.katlego.task_tracking_api.dto.task.TaskDeleteResponse;
+import com.katlego.task_tracking_api.dto.task.TaskEvent;
+import com.katlego.task_tracking_api.dto.task.TaskEventType;
 import com.katlego.task_tracking_api.dto.task.TaskFilter;
 import com.katlego.task_tracking_api.dto.task.TaskRequest;
 import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.dto.task.TaskUpdateItem;
+import com.katlego.task_tracking_api.exception.PreconditionFailedException;
 import com.katlego.task_tracking_api.exception.ResourceNotFoundException;
 import com.katlego.task_tracking_api.mapper.TaskMapper;
 import com.katlego.task_tracking_api.repository.TaskRepository;
+import com.katlego.task_tracking_api.repository.TaskSpecifications;
+import com.katlego.task_tracking_api.repository.TaskTombstoneRepository;
 import com.katlego.task_tracking_api.repository.UserRepository;
+import com.katlego.task_tracking_api.scheduler.OverdueTaskTimer;
+import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final TaskRepository taskRepository;
     private final AuthenticatedUserComponent authenticatedUserComponent;
     private final TaskMapper taskMapper;
     private final UserRepository userRepository;
+    private final OverdueTaskTimer overdueTaskTimer;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskEventBus taskEventBus;
+    private final TaskTombstoneRepository taskTombstoneRepository;
 
-    public TaskService(TaskRepository taskRepository, AuthenticatedUserComponent authenticatedUserComponent, TaskMapper taskMapper, UserRepository userRepository) {
+    public TaskService(TaskRepository taskRepository, AuthenticatedUserComponent authenticatedUserComponent, TaskMapper taskMapper, UserRepository userRepository, OverdueTaskTimer overdueTaskTimer, TaskResponseCache taskResponseCache, TaskEventBus taskEventBus, TaskTombstoneRepository taskTombstoneRepository) {
         this.taskRepository = taskRepository;
         this.authenticatedUserComponent = authenticatedUserComponent;
         this.taskMapper = taskMapper;
         this.userRepository = userRepository;
+        this.overdueTaskTimer = overdueTaskTimer;
+        this.taskResponseCache = taskResponseCache;
+        this.taskEventBus = taskEventBus;
+        this.taskTombstoneRepository = taskTombstoneRepository;
     }
 
     public TaskResponse createTask(TaskRequest request) {
 
         Task newTask = taskMapper.toTaskFromRequest(request);
+        Task savedTask = taskRepository.save(newTask);
+        overdueTaskTimer.schedule(savedTask.getId(), savedTask.getDueDate(), savedTask.getStatus());
 
-        return taskMapper.toTaskResponseFromModel(taskRepository.save(newTask));
+        TaskResponse response = taskMapper.toTaskResponseFromModel(savedTask);
+        publishAfterCommit(TaskEventType.CREATED, List.of(response));
+        return response;
     }
 
-    public TaskResponse updateTask(Long taskId, TaskRequest request) {
+    /*
+     * expectedVersions come from If-Match (null = unconditional). The read, the check and the flush run
+     * in one transaction, so the entity stays managed without relying on open-in-view; a concurrent
+     * update between the read and the flush is caught by the @Version condition of the UPDATE, which
+     * matches no row and fails with an optimistic lock exception instead of overwriting it. The cache
+     * and the overdue timer only see the change once it is committed.
+     */
+    @Transactional
+    public TaskResponse updateTask(Long taskId, TaskRequest request, Set<Long> expectedVersions) {
+        long cacheGeneration = taskResponseCache.generation();
         Task updateTask = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task with id: " + taskId + ", not found."));
+        checkVersion(updateTask, expectedVersions);
 
         updateTask.setTitle(request.getTitle());
         updateTask.setStatus(request.getStatus());
         updateTask.setDescription(request.getDescription());
         updateTask.setDueDate(request.getDueDate());
 
-        return taskMapper.toTaskResponseFromModel(taskRepository.save(updateTask));
+        // Flushed so the response carries the incremented version and updatedAt.
+        Task savedTask = taskRepository.saveAndFlush(updateTask);
+        scheduleAfterCommit(List.of(savedTask));
+
+        TaskResponse response = taskMapper.toTaskResponseFromModel(savedTask);
+        afterCommit(() -> taskResponseCache.put(response, cacheGeneration));
+        publishAfterCommit(TaskEventType.UPDATED, List.of(response));
+        return response;
+    }
+
+    /*
+     * The bulk operations run in one transaction; inserts and dirty-checked updates are flushed
+     * as JDBC batches (hibernate.jdbc.batch_size). Timer entries are only added after commit so
+     * an immediate OVERDUE transition never races the uncommitted rows.
+     */
+    @Transactional
+    public List<TaskResponse> createTasks(List<TaskRequest> requests) {
+
+        List<Task> newTasks = requests.stream()
+                .map(taskMapper::toTaskFromRequest)
+                .toList();
+        List<Task> savedTasks = taskRepository.saveAll(newTasks);
+        scheduleAfterCommit(savedTasks);
+
+        List<TaskResponse> responses = savedTasks.stream()
+                .map(taskMapper::toTaskResponseFromModel)
+                .toList();
+        publishAfterCommit(TaskEventType.CREATED, responses);
+        return responses;
+    }
+
+    @Transactional
+    public List<TaskResponse> updateTasks(List<TaskUpdateItem> requests) {
+        long cacheGeneration = taskResponseCache.generation();
+        Map<Long, Task> tasks = findTasksById(requests.stream().map(TaskUpdateItem::getId).toList());
+        requests.forEach(request -> checkVersion(tasks.get(request.getId()), request.getVersion()));
+
+        for (TaskUpdateItem request : requests) {
+            Task updateTask = tasks.get(request.getId());
+            updateTask.setTitle(request.getTitle());
+            updateTask.setStatus(request.getStatus());
+            updateTask.setDescription(request.getDescription());
+            updateTask.setDueDate(request.getDueDate());
+        }
+        scheduleAfterCommit(tasks.values());
+        // Flushing increments the versions, so the responses carry the new ones.
+        taskRepository.flush();
+
+        List<TaskResponse> responses = requests.stream()
+                .map(request -> taskMapper.toTaskResponseFromModel(tasks.get(request.getId())))
+                .toList();
+        afterCommit(() -> responses.forEach(response -> taskResponseCache.put(response, cacheGeneration)));
+        publishAfterCommit(TaskEventType.UPDATED, responses);
+        return responses;
+    }
+
+    @Transactional
+    public List<TaskResponse> assignTasks(List<TaskAssignItem> requests) {
+        long cacheGeneration = taskResponseCache.generation();
+        Map<Long, Task> tasks = findTasksById(requests.stream().map(TaskAssignItem::getTaskId).toList());
+        requests.forEach(request -> checkVersion(tasks.get(request.getTaskId()), request.getVersion()));
+
+        List<Long> userIds = requests.stream().map(TaskAssignItem::getAssignedUserId).distinct().toList();
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<Long> missingUserIds = userIds.stream().filter(id -> !users.containsKey(id)).toList();
+        if (!missingUserIds.isEmpty()) {
+            throw new ResourceNotFoundException("Users with ids: " + missingUserIds + ", not found.");
+        }
+
+        Map<Long, Long> previousAssignees = new HashMap<>();
+        for (TaskAssignItem request : requests) {
+            Task task = tasks.get(request.getTaskId());
+            previousAssignees.putIfAbsent(task.getId(), assignedUserIdOf(task));
+            task.setAssignedUser(users.get(request.getAssignedUserId()));
+        }
+        saveTombstones(tasks.values(), previousAssignees);
+        taskRepository.flush();
+
+        List<TaskResponse> responses = requests.stream()
+                .map(request -> taskMapper.toTaskResponseFromModel(tasks.get(request.getTaskId())))
+                .toList();
+        afterCommit(() -> responses.forEach(response -> taskResponseCache.put(response, cacheGeneration)));
+        publishAssignedAfterCommit(responses, previousAssignees);
+        return responses;
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        checkVersion(task, expectedVersion != null ? Set.of(expectedVersion) : null);
+    }
+
+    private static void checkVersion(Task task, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(task.getVersion())) {
+            throw new PreconditionFailedException("Task with id: " + task.getId()
+                    + " has been modified; current version is " + task.getVersion() + ".");
+        }
+    }
+
+    private Map<Long, Task> findTasksById(List<Long> ids) {
+        Map<Long, Task> tasks = taskRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<Long> missingIds = ids.stream().filter(id -> !tasks.containsKey(id)).distinct().toList();
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException("Tasks with ids: " + missingIds + ", not found.");
+        }
+        return tasks;
+    }
+
+    private void scheduleAfterCommit(Collection<Task> tasks) {
+        afterCommit(() -> tasks.forEach(task ->
+                overdueTaskTimer.schedule(task.getId(), task.getDueDate(), task.getStatus())));
+    }
+
+    /*
+     * Stream events go to the task's assignee once the change is committed. TaskEventBus.publish
+     * never blocks, so slow subscribers cannot hold up the request.
+     */
+    private void publishAfterCommit(TaskEventType type, Collection<TaskResponse> tasks) {
+        Instant occurredAt = Instant.now();
+        afterCommit(() -> tasks.forEach(task -> taskEventBus.publish(task.getAssignedUserId(),
+                new TaskEvent(type, task.getId(), task.getVersion(), task, occurredAt))));
+    }
+
+    // The previous assignee is told too, so the task drops out of their list.
+    private void publishAssignedAfterCommit(Collection<TaskResponse> tasks, Map<Long, Long> previousAssignees) {
+        Instant occurredAt = Instant.now();
+        afterCommit(() -> tasks.forEach(task -> {
+            TaskEvent event = new TaskEvent(TaskEventType.ASSIGNED, task.getId(), task.getVersion(), task, occurredAt);
+            taskEventBus.publish(task.getAssignedUserId(), event);
+
+            Long previousAssignee = previousAssignees.get(task.getId());
+            if (!Objects.equals(previousAssignee, task.getAssignedUserId())) {
+                taskEventBus.publish(previousAssignee, event);
+            }
+        }));
+    }
+
+    // Lets GET /api/task/changes tell previous assignees that the task left their list.
+    private void saveTombstones(Collection<Task> tasks, Map<Long, Long> previousAssignees) {
+        Instant removedAt = Instant.now();
+        List<TaskTombstone> tombstones = tasks.stream()
+                .filter(task -> {
+                    Long previousAssignee = previousAssignees.get(task.getId());
+                    return previousAssignee != null && !previousAssignee.equals(assignedUserIdOf(task));
+                })
+                .map(task -> new TaskTombstone(task.getId(), previousAssignees.get(task.getId()), removedAt))
+                .toList();
+        if (!tombstones.isEmpty()) {
+            taskTombstoneRepository.saveAll(tombstones);
+        }
+    }
+
+    private static Long assignedUserIdOf(Task task) {
+        return task.getAssignedUser() != null ? task.getAssignedUser().getId() : null;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
+    // Concurrent misses for the same id share one query; see TaskResponseCache for invalidation.
     public TaskResponse getTaskById(Long taskId) {
+        return taskResponseCache.get(taskId, id -> {
+            Task task = taskRepository.findWithAssignedUserById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task with id: " + id + ", not found."));
 
-        Task task = taskRepository.findById(taskId)
+            return taskMapper.toTaskResponseFromModel(task);
+        });
+    }
+
+    public long getTaskVersion(Long taskId) {
+        TaskResponse cached = taskResponseCache.getIfPresent(taskId);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return taskRepository.findVersionById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task with id: " + taskId + ", not found."));
+    }
 
-        return taskMapper.toTaskResponseFromModel(task);
+    /**
+     * Opens a server-sent event stream of changes to the authenticated user's tasks.
+     */
+    public SseEmitter streamMyTaskEvents() {
+        return taskEventBus.subscribe(authenticatedUserComponent.getCurrentUserId());
     }
 
-    public List<TaskResponse> getAllMyAssignedTasks(){
-        User user = authenticatedUserComponent.getCurrentLoggedInUser();
+    public TaskCursorPage getAllMyAssignedTasks(String cursor, int size){
+        Long userId = authenticatedUserComponent.getCurrentUserId();
+        TaskCursor after = TaskCursor.decode(cursor);
+        Pageable limit = limitOf(size);
 
-        return taskRepository.findTaskByAssignedUser(user.getId())
-                .stream()
-                .map(taskMapper::toTaskResponseFromModel)
-                .collect(Collectors.toList());
+        List<TaskResponse> tasks = after == null
+                ? taskRepository.findAssignedTaskResponses(userId, limit)
+                : taskRepository.findAssignedTaskResponsesAfter(userId, after.createdDate(), after.id(), limit);
+
+        return toCursorPage(tasks, limit.getPageSize() - 1);
     }
 
-    public List<TaskResponse> getAllTasks(){
-        return taskRepository.findAll()
-                .stream()
-                .map(taskMapper::toTaskResponseFromModel)
-                .collect(Collectors.toList());
+    public TaskCursorPage getAllTasks(String cursor, int size){
+        TaskCursor after = TaskCursor.decode(cursor);
+        Pageable limit = limitOf(size);
+
+        List<TaskResponse> tasks = after == null
+                ? taskRepository.findTaskResponses(limit)
+                : taskRepository.findTaskResponsesAfter(after.createdDate(), after.id(), limit);
+
+        return toCursorPage(tasks, limit.getPageSize() - 1);
+    }
+
+    // One extra row is fetched to tell whether another page exists without a COUNT query.
+    private Pageable limitOf(int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    private TaskCursorPage toCursorPage(List<TaskResponse> tasks, int pageSize) {
+        if (tasks.size() <= pageSize) {
+            return new TaskCursorPage(tasks, null);
+        }
+
+        List<TaskResponse> page = tasks.subList(0, pageSize);
+        return new TaskCursorPage(page, TaskCursor.of(page.getLast()).encode());
     }
 
+    // The delete and its tombstone commit together; the cache and the stream follow the commit.
+    @Transactional
     public TaskDeleteResponse deleteTaskById(Long taskId){
 
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task with id: " + taskId + ", not found."));
 
+        Long assigneeId = assignedUserIdOf(task);
         taskRepository.delete(task);
+        if (assigneeId != null) {
+            taskTombstoneRepository.save(new TaskTombstone(taskId, assigneeId, Instant.now()));
+        }
+        overdueTaskTimer.cancel(taskId);
+
+        TaskEvent event = new TaskEvent(TaskEventType.DELETED, taskId, task.getVersion(), null, Instant.now());
+        afterCommit(() -> {
+            taskResponseCache.invalidate(taskId);
+            taskEventBus.publish(assigneeId, event);
+        });
 
         return new TaskDeleteResponse("Task successfully deleted");
     }
 
-    public TaskResponse assignTask(Long taskId, TaskAssignRequest request) {
+    // Transactional so the reassignment and the previous assignee's tombstone commit together.
+    @Transactional
+    public TaskResponse assignTask(Long taskId, TaskAssignRequest request, Set<Long> expectedVersions) {
+        long cacheGeneration = taskResponseCache.generation();
 
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task with id: " + taskId + ", not found."));
+        checkVersion(task, expectedVersions);
 
         User assignedUser = userRepository.findById(request.getAssignedUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("User with id: " + request.getAssignedUserId() + ", not found."));
 
+        Map<Long, Long> previousAssignees = Collections.singletonMap(taskId, assignedUserIdOf(task));
         task.setAssignedUser(assignedUser);
+        saveTombstones(List.of(task), previousAssignees);
 
-        return taskMapper.toTaskResponseFromModel(taskRepository.save(task));
+        // Flushed so the response carries the incremented version and updatedAt.
+        TaskResponse response = taskMapper.toTaskResponseFromModel(taskRepository.saveAndFlush(task));
+        afterCommit(() -> taskResponseCache.put(response, cacheGeneration));
+        publishAssignedAfterCommit(List.of(response), previousAssignees);
+        return response;
     }
 
     public Page<TaskResponse> getTasks(TaskFilter filter, Pageable pageable) {
 
-        Specification<Task> spec = Specification.where((root, query, cb) -> cb.conjunction());
+        Specification<Task> spec = TaskSpecifications.fromFilter(filter)
+                .and(TaskSpecifications.fetchAssignedUser());
 
-        if (filter.getStatus() != null) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), filter.getStatus()));
-        }
+        Page<Task> page = taskRepository.findAll(spec, pageable);
 
-        if (filter.getDueDateFrom() != null) {
-            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), filter.getDueDateFrom()));
-        }
+        return page.map(taskMapper::toTaskResponseFromModel);
+    }
 
-        if (filter.getDueDateTo() != null) {
-            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), filter.getDueDateTo()));
-        }
+    /**
+     * Same search as {@link #getTasks(TaskFilter, Pageable)} without the total count query.
+     */
+    public Slice<TaskResponse> getTaskSlice(TaskFilter filter, Pageable pageable) {
 
-        if (filter.getAssignedUserId() != null) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.join("assignedUser").get("id"), filter.getAssignedUserId()));
-        }
+        Specification<Task> spec = TaskSpecifications.fromFilter(filter)
+                .and(TaskSpecifications.fetchAssignedUser());
 
-        Page<Task> page = taskRepository.findAll(spec, pageable);
+        Slice<Task> slice = taskRepository.findSlice(spec, pageable);
 
-        return page.map(taskMapper::toTaskResponseFromModel);
+        return slice.map(taskMapper::toTaskResponseFromModel);
     }
 }
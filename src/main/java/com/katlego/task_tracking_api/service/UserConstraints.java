@@ -0,0 +1,40 @@
+package com.katlego.task_tracking_api.service;
+
+import com.katlego.task_tracking_api.exception.ResourceAlreadyExistException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * User creation relies on the unique constraints of the users table (V2) instead of
+ * looking up email and username first; this maps a violation back to the API error.
+ */
+final class UserConstraints {
+
+    // Default names PostgreSQL gave the UNIQUE columns in V2__create_users_table.sql.
+    private static final String EMAIL_UNIQUE = "users_email_key";
+    private static final String USERNAME_UNIQUE = "users_username_key";
+
+    private UserConstraints() {
+    }
+
+    static RuntimeException translate(DataIntegrityViolationException e, String email, String username) {
+        String constraintName = constraintName(e);
+
+        if (EMAIL_UNIQUE.equals(constraintName)) {
+            return new ResourceAlreadyExistException("Email already exists: " + email);
+        }
+        if (USERNAME_UNIQUE.equals(constraintName)) {
+            return new ResourceAlreadyExistException("Username already exists: " + username);
+        }
+        return e;
+    }
+
+    private static String constraintName(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName();
+            }
+        }
+        return null;
+    }
+}
@@ -1,49 +1,50 @@
 package com.katlego.task_tracking_api.service;
 
+import com.katlego.task_tracking_api.common.RoleRegistry;
 import com.katlego.task_tracking_api.domain.Role;
 import com.katlego.task_tracking_api.domain.User;
 import com.katlego.task_tracking_api.dto.user.AdminCreateUserRequest;
 import com.katlego.task_tracking_api.dto.user.AdminCreateUserResponse;
-import com.katlego.task_tracking_api.exception.ResourceAlreadyExistException;
 import com.katlego.task_tracking_api.mapper.UserMapper;
-import com.katlego.task_tracking_api.repository.RoleRepository;
 import com.katlego.task_tracking_api.repository.UserRepository;
+import com.katlego.task_tracking_api.security.service.UserPrincipalCache;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 public class UserService {
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public UserService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder,
-                       UserMapper userMapper) {
+    public UserService(UserRepository userRepository, RoleRegistry roleRegistry, PasswordEncoder passwordEncoder,
+                       UserMapper userMapper, UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
         this.passwordEncoder = passwordEncoder;
         this.userMapper = userMapper;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     public AdminCreateUserResponse adminCreateUser(AdminCreateUserRequest request) {
 
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new ResourceAlreadyExistException("Email already exists: " + request.getEmail());
-        }
-
-        if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            throw new ResourceAlreadyExistException("Username already exists: " + request.getUsername());
-        }
-
-        Role userRole = roleRepository.findByName("USER")
-                .orElseThrow(() -> new IllegalStateException("Default role not configured"));
+        Role userRole = roleRegistry.reference("USER");
 
         User user = userMapper.toUserFromCreateUserRequest(request);
         user.setRole(userRole);
         user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
-        userRepository.save(user);
 
-        return userMapper.toCreateUserResponseFromModel(userRepository.save(user));
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw UserConstraints.translate(e, request.getEmail(), request.getUsername());
+        }
+        userPrincipalCache.invalidate(savedUser.getEmail());
+
+        return userMapper.toCreateUserResponseFromModel(savedUser);
     }
 }
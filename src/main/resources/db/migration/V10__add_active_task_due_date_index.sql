@@ -0,0 +1,6 @@
+-- Only tasks that can still become overdue, so frequent overdue polling
+-- does not rescan completed and already overdue tasks.
+-- Must match the statuses in TaskRepository.markOverdueBatch.
+CREATE INDEX idx_tasks_due_date_active
+    ON tasks(due_date)
+    WHERE status IN ('NEW', 'IN_PROGRESS', 'DELAYED');
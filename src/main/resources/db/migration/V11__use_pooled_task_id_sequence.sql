@@ -0,0 +1,4 @@
+-- Hibernate's pooled optimizer reserves blocks of 50 ids per nextval call,
+-- which must match allocationSize on Task.id. Plain INSERTs relying on the
+-- column default keep working; they simply consume one block each.
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
@@ -0,0 +1,17 @@
+-- Store refresh tokens as their SHA-256 digest instead of the bearer value itself.
+-- A 32-byte key keeps the unique index small; idx_token duplicated the UNIQUE index.
+ALTER TABLE refresh_tokens
+    ADD COLUMN token_hash BYTEA;
+
+UPDATE refresh_tokens
+SET token_hash = sha256(convert_to(token, 'UTF8'));
+
+ALTER TABLE refresh_tokens
+    ALTER COLUMN token_hash SET NOT NULL,
+    ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    ADD CONSTRAINT ck_refresh_tokens_token_hash_length CHECK (octet_length(token_hash) = 32);
+
+DROP INDEX idx_token;
+
+ALTER TABLE refresh_tokens
+    DROP COLUMN token;
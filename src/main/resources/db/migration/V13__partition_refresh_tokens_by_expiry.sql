@@ -0,0 +1,49 @@
+-- Range-partition refresh_tokens by expires_at (one partition per day) so expired
+-- tokens are removed by dropping whole partitions instead of row-by-row deletes.
+-- RefreshTokenPartitionManager keeps creating partitions ahead of time and drops
+-- the expired ones; partitions are named refresh_tokens_pYYYYMMDD.
+ALTER SEQUENCE refresh_tokens_id_seq OWNED BY NONE;
+
+CREATE TABLE refresh_tokens_partitioned
+(
+    id         BIGINT       NOT NULL DEFAULT nextval('refresh_tokens_id_seq'),
+    email      VARCHAR(150) NOT NULL,
+    token_hash BYTEA        NOT NULL,
+    created_at TIMESTAMP    NOT NULL,
+    expires_at TIMESTAMP    NOT NULL
+) PARTITION BY RANGE (expires_at);
+
+-- Catches rows outside the pre-created range; emptied by the bulk delete fallback.
+CREATE TABLE refresh_tokens_default PARTITION OF refresh_tokens_partitioned DEFAULT;
+
+DO $$
+DECLARE
+    partition_day DATE;
+BEGIN
+    FOR partition_day IN
+        SELECT generate_series(CURRENT_DATE, CURRENT_DATE + 14, INTERVAL '1 day')::date
+    LOOP
+        EXECUTE format(
+            'CREATE TABLE refresh_tokens_p%s PARTITION OF refresh_tokens_partitioned FOR VALUES FROM (%L) TO (%L)',
+            to_char(partition_day, 'YYYYMMDD'), partition_day, partition_day + 1
+        );
+    END LOOP;
+END $$;
+
+-- Expired tokens are not worth copying.
+INSERT INTO refresh_tokens_partitioned (id, email, token_hash, created_at, expires_at)
+SELECT id, email, token_hash, created_at, expires_at
+FROM refresh_tokens
+WHERE expires_at > LOCALTIMESTAMP;
+
+DROP TABLE refresh_tokens;
+ALTER TABLE refresh_tokens_partitioned RENAME TO refresh_tokens;
+ALTER SEQUENCE refresh_tokens_id_seq OWNED BY refresh_tokens.id;
+
+-- Unique constraints on a partitioned table must include the partition key.
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT refresh_tokens_pkey PRIMARY KEY (id, expires_at),
+    ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash, expires_at),
+    ADD CONSTRAINT ck_refresh_tokens_token_hash_length CHECK (octet_length(token_hash) = 32);
+
+CREATE INDEX idx_email ON refresh_tokens (email);
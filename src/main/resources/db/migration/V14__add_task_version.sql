@@ -0,0 +1,3 @@
+-- Optimistic-lock version for tasks (Task.version). Every update, including the
+-- bulk OVERDUE updates, increments it; ETags on the task endpoints are derived from it.
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
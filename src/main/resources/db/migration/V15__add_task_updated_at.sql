@@ -0,0 +1,7 @@
+-- Last-modified time of a task (Task.updatedAt), set on every write including the bulk
+-- OVERDUE updates. Existing rows get the migration time, which only makes them look changed.
+ALTER TABLE tasks ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- Keyset pagination of a user's changes, ordered by (updated_at, id)
+CREATE INDEX idx_tasks_assigned_user_updated_at_id
+    ON tasks(assigned_user_id, updated_at, id);
@@ -0,0 +1,22 @@
+-- Records that a task left a user's list (deleted or reassigned to someone else), so
+-- GET /api/task/changes can report removals. Rows older than the retention window are purged.
+CREATE TABLE task_tombstones
+(
+    id         BIGSERIAL PRIMARY KEY,
+    task_id    BIGINT    NOT NULL,
+    user_id    BIGINT    NOT NULL,
+    removed_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_task_tombstone_user
+        FOREIGN KEY (user_id)
+            REFERENCES users (id)
+            ON DELETE CASCADE
+);
+
+-- Matches allocationSize on TaskTombstone.id so bulk reassignments insert in JDBC batches.
+ALTER SEQUENCE task_tombstones_id_seq INCREMENT BY 50;
+
+CREATE INDEX idx_task_tombstones_user_removed_at_task
+    ON task_tombstones(user_id, removed_at, task_id);
+
+CREATE INDEX idx_task_tombstones_removed_at
+    ON task_tombstones(removed_at);
@@ -0,0 +1,6 @@
+-- Rotation marks the presented refresh token as replaced instead of deleting it, so a second use
+-- shortly afterwards (two tabs, a retried request) can be told apart from a replayed token.
+-- Replaced rows go away with their partition like any other expired token.
+ALTER TABLE refresh_tokens
+    ADD COLUMN replaced_at      TIMESTAMP,
+    ADD COLUMN replaced_by_hash BYTEA;
@@ -0,0 +1,9 @@
+-- Keyset pagination over all tasks, ordered by (created_date, id)
+CREATE INDEX idx_tasks_created_date_id ON tasks(created_date, id);
+
+-- Keyset pagination over a user's tasks; also serves assigned_user_id lookups,
+-- so the single-column index is no longer needed
+CREATE INDEX idx_tasks_assigned_user_created_date_id
+    ON tasks(assigned_user_id, created_date, id);
+
+DROP INDEX idx_tasks_assigned_user;
@@ -0,0 +1,74 @@
+package com.katlego.task_tracking_api.integration;
+
+import com.katlego.task_tracking_api.domain.Task;
+import com.katlego.task_tracking_api.domain.TaskStatus;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.integration.support.PostgresIntegrationTest;
+import com.katlego.task_tracking_api.repository.TaskRepository;
+import com.katlego.task_tracking_api.scheduler.OverdueTaskTimer;
+import com.katlego.task_tracking_api.service.TaskEventBus;
+import com.katlego.task_tracking_api.service.TaskResponseCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({OverdueTaskTimer.class, TaskResponseCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Overdue task timer")
+class OverdueTaskTimerIntegrationTest extends PostgresIntegrationTest {
+
+    @Autowired private OverdueTaskTimer overdueTaskTimer;
+    @Autowired private TaskResponseCache taskResponseCache;
+    @Autowired private TaskRepository taskRepository;
+    @MockitoBean private TaskEventBus taskEventBus;
+
+    @AfterEach
+    void tearDown() {
+        overdueTaskTimer.stop();
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("A task due a moment from now flips to OVERDUE and its cached response is dropped")
+    void dueTask_flipsToOverdue() throws Exception {
+        Task task = new Task();
+        task.setTitle("Due soon");
+        task.setStatus(TaskStatus.NEW);
+        task.setDueDate(Instant.now().plusSeconds(1));
+        task = taskRepository.save(task);
+
+        TaskResponse cached = new TaskResponse();
+        cached.setId(task.getId());
+        cached.setStatus(TaskStatus.NEW);
+        cached.setVersion(task.getVersion());
+        taskResponseCache.put(cached, taskResponseCache.generation());
+
+        // ApplicationReadyEvent is not published in a JPA slice, so the worker is started by hand.
+        overdueTaskTimer.start();
+        assertThat(overdueTaskTimer.scheduledCount()).isEqualTo(1);
+
+        // The cache entry is dropped after the update commits, so once it is gone the row is updated too.
+        Long taskId = task.getId();
+        Instant deadline = Instant.now().plusSeconds(10);
+        while (taskResponseCache.getIfPresent(taskId) != null && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+        }
+
+        Task reloaded = taskRepository.findById(taskId).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.OVERDUE);
+        assertThat(reloaded.getVersion()).isEqualTo(task.getVersion() + 1);
+        assertThat(taskResponseCache.getIfPresent(taskId)).isNull();
+        assertThat(overdueTaskTimer.scheduledCount()).isZero();
+    }
+}
@@ -0,0 +1,69 @@
+package com.katlego.task_tracking_api.integration;
+
+import com.katlego.task_tracking_api.integration.support.PostgresIntegrationTest;
+import com.katlego.task_tracking_api.security.service.RefreshTokenPartitionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Refresh token partition maintenance")
+class RefreshTokenPartitionManagerTest extends PostgresIntegrationTest {
+
+    @Autowired private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("Creates missing future partitions and is idempotent")
+    void createUpcomingPartitions() {
+        RefreshTokenPartitionManager manager = new RefreshTokenPartitionManager(dataSource, 20);
+        LocalDate today = jdbcTemplate.queryForObject("SELECT CURRENT_DATE", LocalDate.class);
+
+        manager.createUpcomingPartitions();
+
+        assertThat(partitionExists(today.plusDays(20))).isTrue();
+        assertThat(manager.createUpcomingPartitions()).isZero();
+    }
+
+    @Test
+    @DisplayName("Drops partitions whose whole range has expired, with their rows")
+    void dropExpiredPartitions() {
+        LocalDate expiredDay = LocalDate.of(2000, 1, 1);
+        jdbcTemplate.execute("CREATE TABLE refresh_tokens_p20000101 PARTITION OF refresh_tokens"
+                + " FOR VALUES FROM ('2000-01-01') TO ('2000-01-02')");
+        jdbcTemplate.update("""
+            INSERT INTO refresh_tokens (email, token_hash, created_at, expires_at)
+            VALUES ('expired@example.com', sha256('expired'::bytea), '2000-01-01 00:00', '2000-01-01 12:00')
+        """);
+
+        int dropped = new RefreshTokenPartitionManager(dataSource, 14).dropExpiredPartitions();
+
+        assertThat(dropped).isGreaterThanOrEqualTo(1);
+        assertThat(partitionExists(expiredDay)).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM refresh_tokens WHERE email = 'expired@example.com'", Long.class)).isZero();
+    }
+
+    private boolean partitionExists(LocalDate day) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                "refresh_tokens_p" + day.format(DateTimeFormatter.BASIC_ISO_DATE));
+    }
+}
@@ -0,0 +1,129 @@
+package com.katlego.task_tracking_api.integration;
+
+import com.katlego.task_tracking_api.integration.support.PostgresIntegrationTest;
+import com.katlego.task_tracking_api.security.entity.RefreshToken;
+import com.katlego.task_tracking_api.security.repository.RefreshTokenRepository;
+import com.katlego.task_tracking_api.security.service.RefreshTokenService;
+import com.katlego.task_tracking_api.security.service.RotationResult;
+import com.katlego.task_tracking_api.security.service.UserPrincipalCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({RefreshTokenService.class, UserPrincipalCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Concurrent refresh token rotation")
+class RefreshTokenRotationConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final String EMAIL = "rotation@example.com";
+    private static final int CONCURRENT_REFRESHES = 16;
+    private static final int ROUNDS = 20;
+    // Whole seconds, like a JWT exp claim; one day ahead lands in a pre-created daily partition.
+    private static final Instant OLD_EXPIRES_AT =
+            Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+    private static final Instant NEW_EXPIRES_AT = OLD_EXPIRES_AT.plus(1, ChronoUnit.DAYS);
+
+    @Autowired private RefreshTokenService refreshTokenService;
+    @Autowired private RefreshTokenRepository refreshTokenRepository;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Exactly one of many concurrent rotations of the same token wins and its new token survives")
+    void concurrentRotation_singleWinner() throws Exception {
+        // Virtual threads, so pinning inside the JDBC/JPA stack shows up via jdk.tracePinnedThreads.
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int round = 0; round < ROUNDS; round++) {
+                String oldToken = "token-" + round;
+                refreshTokenService.saveRefreshToken(EMAIL, oldToken, OLD_EXPIRES_AT);
+
+                List<RotationResult> results = rotateConcurrently(executor, oldToken, round);
+
+                assertThat(results).filteredOn(RotationResult.ROTATED::equals).hasSize(1);
+                assertThat(results).filteredOn(RotationResult.ALREADY_ROTATED::equals)
+                        .hasSize(CONCURRENT_REFRESHES - 1);
+                RefreshToken replaced = stored(oldToken, OLD_EXPIRES_AT).orElseThrow();
+                assertThat(replaced.getReplacedAt()).isNotNull();
+                assertThat(refreshTokenRepository.findByTokenHashAndExpiresAt(
+                        replaced.getReplacedByHash(), NEW_EXPIRES_AT)).isPresent();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Presenting a rotated token again within the grace window revokes nothing")
+    void reusedWithinGrace_keepsSuccessor() {
+        refreshTokenService.saveRefreshToken(EMAIL, "first", OLD_EXPIRES_AT);
+
+        assertThat(rotate("first", "second")).isEqualTo(RotationResult.ROTATED);
+        assertThat(rotate("first", "third")).isEqualTo(RotationResult.ALREADY_ROTATED);
+
+        assertThat(stored("second", NEW_EXPIRES_AT)).isPresent();
+        assertThat(stored("third", NEW_EXPIRES_AT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Replaying a rotated token after the grace window revokes the token issued in its place")
+    void replayedToken_revokesAll() {
+        refreshTokenService.saveRefreshToken(EMAIL, "first", OLD_EXPIRES_AT);
+        assertThat(rotate("first", "second")).isEqualTo(RotationResult.ROTATED);
+
+        RefreshToken first = stored("first", OLD_EXPIRES_AT).orElseThrow();
+        first.setReplacedAt(Instant.now().minus(1, ChronoUnit.HOURS));
+        refreshTokenRepository.save(first);
+
+        assertThat(rotate("first", "third")).isEqualTo(RotationResult.REUSE_DETECTED);
+        assertThat(stored("second", NEW_EXPIRES_AT)).isEmpty();
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    private RotationResult rotate(String oldToken, String newToken) {
+        return refreshTokenService.rotateRefreshToken(EMAIL, oldToken, OLD_EXPIRES_AT, newToken, NEW_EXPIRES_AT);
+    }
+
+    private Optional<RefreshToken> stored(String token, Instant expiresAt) {
+        return refreshTokenRepository.findByTokenHashAndExpiresAt(RefreshTokenService.hash(token), expiresAt);
+    }
+
+    private List<RotationResult> rotateConcurrently(ExecutorService executor, String oldToken, int round)
+            throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<RotationResult>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_REFRESHES; i++) {
+            String newToken = "token-" + round + "-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return rotate(oldToken, newToken);
+            }));
+        }
+        start.countDown();
+
+        List<RotationResult> results = new ArrayList<>();
+        for (Future<RotationResult> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+}
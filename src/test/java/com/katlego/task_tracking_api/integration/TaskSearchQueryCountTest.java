@@ -0,0 +1,118 @@
+package com.katlego.task_tracking_api.integration;
+
+import com.katlego.task_tracking_api.domain.Role;
+import com.katlego.task_tracking_api.domain.Task;
+import com.katlego.task_tracking_api.domain.TaskStatus;
+import com.katlego.task_tracking_api.domain.User;
+import com.katlego.task_tracking_api.dto.task.TaskFilter;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.integration.support.PostgresIntegrationTest;
+import com.katlego.task_tracking_api.integration.support.QueryCounter;
+import com.katlego.task_tracking_api.mapper.TaskMapper;
+import com.katlego.task_tracking_api.mapper.TaskMapperImpl;
+import com.katlego.task_tracking_api.repository.RoleRepository;
+import com.katlego.task_tracking_api.repository.TaskRepository;
+import com.katlego.task_tracking_api.repository.TaskSpecifications;
+import com.katlego.task_tracking_api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("Task search statement counts")
+class TaskSearchQueryCountTest extends PostgresIntegrationTest {
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private RoleRepository roleRepository;
+    @Autowired private EntityManager entityManager;
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+    private final Pageable firstPage = PageRequest.of(0, 5, Sort.by("id"));
+    private User firstUser;
+
+    @BeforeEach
+    void setUp() {
+        Role role = roleRepository.findByName("USER").orElseThrow();
+
+        for (int u = 0; u < 3; u++) {
+            User user = new User();
+            user.setUsername("search-user-" + u);
+            user.setEmail("search-user-" + u + "@example.com");
+            user.setPasswordHash("hash");
+            user.setRole(role);
+            user = userRepository.save(user);
+            if (firstUser == null) {
+                firstUser = user;
+            }
+
+            for (int t = 0; t < 6; t++) {
+                Task task = new Task();
+                task.setTitle("Task " + u + "-" + t);
+                task.setStatus(TaskStatus.NEW);
+                task.setDueDate(Instant.now().plusSeconds(3600L * t));
+                task.setAssignedUser(user);
+                taskRepository.save(task);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        QueryCounter.reset();
+    }
+
+    @Test
+    @DisplayName("Paged search loads assignees in the same query and adds a single count")
+    void pagedSearch_hasNoNPlusOne() {
+        Page<TaskResponse> page = taskRepository.findAll(searchSpec(new TaskFilter()), firstPage)
+                .map(taskMapper::toTaskResponseFromModel);
+
+        assertThat(page.getContent()).hasSize(5)
+                .allSatisfy(task -> assertThat(task.getAssignedUsername()).isNotNull());
+        assertThat(QueryCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Slice search skips the count query")
+    void sliceSearch_skipsCount() {
+        Slice<TaskResponse> slice = taskRepository.findSlice(searchSpec(new TaskFilter()), firstPage)
+                .map(taskMapper::toTaskResponseFromModel);
+
+        assertThat(slice.getContent()).hasSize(5)
+                .allSatisfy(task -> assertThat(task.getAssignedUsername()).isNotNull());
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(QueryCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Filtering by assignee uses the foreign key instead of an extra join")
+    void assigneeFilter_usesForeignKey() {
+        TaskFilter filter = new TaskFilter();
+        filter.setAssignedUserId(firstUser.getId());
+
+        Slice<TaskResponse> slice = taskRepository.findSlice(searchSpec(filter), firstPage)
+                .map(taskMapper::toTaskResponseFromModel);
+
+        assertThat(slice.getContent())
+                .allSatisfy(task -> assertThat(task.getAssignedUserId()).isEqualTo(firstUser.getId()));
+        assertThat(QueryCounter.count()).isEqualTo(1);
+        assertThat(QueryCounter.statements().getFirst().toLowerCase().split("join")).hasSize(2);
+    }
+
+    private Specification<Task> searchSpec(TaskFilter filter) {
+        return TaskSpecifications.fromFilter(filter).and(TaskSpecifications.fetchAssignedUser());
+    }
+}
@@ -0,0 +1,73 @@
+package com.katlego.task_tracking_api.integration;
+
+import com.katlego.task_tracking_api.common.RoleRegistry;
+import com.katlego.task_tracking_api.dto.user.AdminCreateUserRequest;
+import com.katlego.task_tracking_api.exception.ResourceAlreadyExistException;
+import com.katlego.task_tracking_api.integration.support.PostgresIntegrationTest;
+import com.katlego.task_tracking_api.integration.support.QueryCounter;
+import com.katlego.task_tracking_api.mapper.UserMapperImpl;
+import com.katlego.task_tracking_api.security.service.UserPrincipalCache;
+import com.katlego.task_tracking_api.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({UserService.class, UserMapperImpl.class, UserPrincipalCache.class, RoleRegistry.class,
+        UserCreationQueryCountTest.PasswordEncoderConfig.class})
+@DisplayName("User creation statement counts")
+class UserCreationQueryCountTest extends PostgresIntegrationTest {
+
+    @Autowired private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        QueryCounter.reset();
+    }
+
+    @Test
+    @DisplayName("Creating a user costs a single insert")
+    void adminCreateUser_singleInsert() {
+        userService.adminCreateUser(request("count-user", "count-user@example.com"));
+
+        assertThat(QueryCounter.statements())
+                .singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase()).startsWith("insert"));
+    }
+
+    @Test
+    @DisplayName("A duplicate email is reported from the unique constraint")
+    void adminCreateUser_duplicateEmail() {
+        userService.adminCreateUser(request("first-user", "duplicate@example.com"));
+
+        assertThatThrownBy(() -> userService.adminCreateUser(request("second-user", "duplicate@example.com")))
+                .isInstanceOf(ResourceAlreadyExistException.class)
+                .hasMessageContaining("Email already exists");
+    }
+
+    private static AdminCreateUserRequest request(String username, String email) {
+        AdminCreateUserRequest request = new AdminCreateUserRequest();
+        request.setUsername(username);
+        request.setEmail(email);
+        request.setPassword("password123");
+        return request;
+    }
+
+    @TestConfiguration
+    static class PasswordEncoderConfig {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.katlego.task_tracking_api.integration.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Base class for tests that need a real PostgreSQL. A single embedded server (no Docker,
+ * no network) is started per JVM, and Flyway migrates it like any other environment.
+ */
+public abstract class PostgresIntegrationTest {
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.test.database.replace", () -> "none");
+        registry.add("spring.sql.init.mode", () -> "never");
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                QueryCounter.class::getName);
+        registry.add("app.jwt.secret", () -> "integration-test-secret-that-is-long-enough-for-hs256");
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // JVM is shutting down
+                }
+            }));
+            return postgres;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+        }
+    }
+}
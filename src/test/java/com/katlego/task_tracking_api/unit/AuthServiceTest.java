@@ -1,20 +1,29 @@
 package com.katlego.task_tracking_api.unit;
 
+import com.katlego.task_tracking_api.common.RoleRegistry;
 import com.katlego.task_tracking_api.domain.Role;
 import com.katlego.task_tracking_api.domain.User;
 import com.katlego.task_tracking_api.dto.auth.AuthResponse;
 import com.katlego.task_tracking_api.dto.auth.LoginRequest;
 import com.katlego.task_tracking_api.dto.auth.RefreshTokenRequest;
 import com.katlego.task_tracking_api.dto.auth.SignupRequest;
+import com.katlego.task_tracking_api.exception.ConflictException;
+import com.katlego.task_tracking_api.exception.RefreshTokenReuseException;
 import com.katlego.task_tracking_api.exception.ResourceAlreadyExistException;
 import com.katlego.task_tracking_api.exception.ResourceNotFoundException;
 import com.katlego.task_tracking_api.mapper.AuthenticationMapper;
-import com.katlego.task_tracking_api.repository.RoleRepository;
 import com.katlego.task_tracking_api.repository.UserRepository;
 import com.katlego.task_tracking_api.security.entity.CustomUserDetails;
+import com.katlego.task_tracking_api.security.entity.TokenType;
+import com.katlego.task_tracking_api.security.jwt.service.IssuedToken;
 import com.katlego.task_tracking_api.security.jwt.service.JwtService;
+import com.katlego.task_tracking_api.security.jwt.service.VerifiedToken;
+import com.katlego.task_tracking_api.exception.TooManyRequestsException;
+import com.katlego.task_tracking_api.security.service.LoginThrottle;
 import com.katlego.task_tracking_api.security.service.RefreshTokenService;
+import com.katlego.task_tracking_api.security.service.RotationResult;
 import com.katlego.task_tracking_api.service.AuthService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,12 +31,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -38,13 +51,18 @@ import static org.mockito.Mockito.*;
 @DisplayName("Authentication service tests")
 class AuthServiceTest {
 
+    private static final String CLIENT_IP = "203.0.113.7";
+    private static final Instant OLD_EXPIRES_AT = Instant.parse("2030-01-01T00:00:00Z");
+    private static final Instant EXPIRES_AT = Instant.parse("2030-01-02T00:00:00Z");
+
     @Mock private UserRepository userRepository;
-    @Mock private RoleRepository roleRepository;
+    @Mock private RoleRegistry roleRegistry;
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private JwtService jwtService;
     @Mock private RefreshTokenService refreshTokenService;
     @Mock private AuthenticationMapper authenticationMapper;
     @Mock private AuthenticationManager authenticationManager;
+    @Mock private LoginThrottle loginThrottle;
 
     @InjectMocks
     private AuthService authService;
@@ -54,10 +72,11 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
-        userRole = new Role();
-        userRole.setName("USER");
+        userRole = new Role(2L, "USER");
+        lenient().when(roleRegistry.nameOf(2L)).thenReturn("USER");
 
         user = new User();
+        user.setId(1L);
         user.setEmail("john@example.com");
         user.setUsername("johndoe");
         user.setRole(userRole);
@@ -69,20 +88,19 @@ class AuthServiceTest {
     void signup_success() {
         SignupRequest request = new SignupRequest("johndoe", "john@example.com", "password123");
 
-        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.empty());
-        when(userRepository.findByUsername(request.getUsername())).thenReturn(Optional.empty());
-        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(roleRegistry.reference("USER")).thenReturn(userRole);
         when(authenticationMapper.toUser(request)).thenReturn(user);
         when(passwordEncoder.encode(request.getPassword())).thenReturn("hashed_password");
         when(jwtService.generateAccessToken(eq(user.getEmail()), anyMap())).thenReturn("access_token");
-        when(jwtService.generateRefreshToken(user.getEmail())).thenReturn("refresh_token");
+        when(jwtService.generateRefreshToken(user.getEmail()))
+                .thenReturn(new IssuedToken("refresh_token", EXPIRES_AT));
 
         AuthResponse response = authService.signup(request);
 
         assertThat(response.getAccessToken()).isEqualTo("access_token");
         assertThat(response.getRefreshToken()).isEqualTo("refresh_token");
         verify(userRepository).save(user);
-        verify(refreshTokenService).saveRefreshToken(user.getEmail(), "refresh_token");
+        verify(refreshTokenService).saveRefreshToken(user.getEmail(), "refresh_token", EXPIRES_AT);
     }
 
     @Test
@@ -90,13 +108,16 @@ class AuthServiceTest {
     void signup_throwsWhenEmailAlreadyExists() {
         SignupRequest request = new SignupRequest("johndoe", "john@example.com", "password123");
 
-        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.of(user));
+        when(roleRegistry.reference("USER")).thenReturn(userRole);
+        when(authenticationMapper.toUser(request)).thenReturn(user);
+        when(userRepository.save(user)).thenThrow(uniqueViolation("users_email_key"));
 
         assertThatThrownBy(() -> authService.signup(request))
                 .isInstanceOf(ResourceAlreadyExistException.class)
                 .hasMessageContaining(request.getEmail());
 
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).findByEmail(any());
+        verify(refreshTokenService, never()).saveRefreshToken(any(), any(), any());
     }
 
     @Test
@@ -104,14 +125,16 @@ class AuthServiceTest {
     void signup_throwsWhenUsernameAlreadyExists() {
         SignupRequest request = new SignupRequest("johndoe", "john@example.com", "password123");
 
-        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.empty());
-        when(userRepository.findByUsername(request.getUsername())).thenReturn(Optional.of(user));
+        when(roleRegistry.reference("USER")).thenReturn(userRole);
+        when(authenticationMapper.toUser(request)).thenReturn(user);
+        when(userRepository.save(user)).thenThrow(uniqueViolation("users_username_key"));
 
         assertThatThrownBy(() -> authService.signup(request))
                 .isInstanceOf(ResourceAlreadyExistException.class)
                 .hasMessageContaining(request.getUsername());
 
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).findByUsername(any());
+        verify(refreshTokenService, never()).saveRefreshToken(any(), any(), any());
     }
 
     @Test
@@ -119,13 +142,11 @@ class AuthServiceTest {
     void signup_throwsWhenDefaultRoleNotConfigured() {
         SignupRequest request = new SignupRequest("johndoe", "john@example.com", "password123");
 
-        when(userRepository.findByEmail(request.getEmail())).thenReturn(Optional.empty());
-        when(userRepository.findByUsername(request.getUsername())).thenReturn(Optional.empty());
-        when(roleRepository.findByName("USER")).thenReturn(Optional.empty());
+        when(roleRegistry.reference("USER")).thenThrow(new IllegalStateException("Role not configured: USER"));
 
         assertThatThrownBy(() -> authService.signup(request))
                 .isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("Default role not configured");
+                .hasMessageContaining("Role not configured");
     }
 
     @Test
@@ -133,13 +154,11 @@ class AuthServiceTest {
     void signup_encodesPasswordBeforeSaving() {
         SignupRequest request = new SignupRequest("johndoe", "john@example.com", "plaintext");
 
-        when(userRepository.findByEmail(any())).thenReturn(Optional.empty());
-        when(userRepository.findByUsername(any())).thenReturn(Optional.empty());
-        when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+        when(roleRegistry.reference("USER")).thenReturn(userRole);
         when(authenticationMapper.toUser(request)).thenReturn(user);
         when(passwordEncoder.encode("plaintext")).thenReturn("encoded_plaintext");
         when(jwtService.generateAccessToken(any(), anyMap())).thenReturn("at");
-        when(jwtService.generateRefreshToken(any())).thenReturn("rt");
+        when(jwtService.generateRefreshToken(any())).thenReturn(new IssuedToken("rt", EXPIRES_AT));
 
         authService.signup(request);
 
@@ -151,20 +170,22 @@ class AuthServiceTest {
     @DisplayName("Successfully logged in")
     void login_success() {
         LoginRequest request = new LoginRequest("john@example.com", "password123");
-        CustomUserDetails userDetails = new CustomUserDetails(user);
+        CustomUserDetails userDetails = new CustomUserDetails(user, "USER");
         Authentication authentication = mock(Authentication.class);
 
         when(authenticationManager.authenticate(any())).thenReturn(authentication);
         when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
         when(jwtService.generateAccessToken(eq(user.getEmail()), anyMap())).thenReturn("access_token");
-        when(jwtService.generateRefreshToken(user.getEmail())).thenReturn("refresh_token");
+        when(jwtService.generateRefreshToken(user.getEmail()))
+                .thenReturn(new IssuedToken("refresh_token", EXPIRES_AT));
 
-        AuthResponse response = authService.login(request);
+        AuthResponse response = authService.login(request, CLIENT_IP);
 
         assertThat(response.getAccessToken()).isEqualTo("access_token");
         assertThat(response.getRefreshToken()).isEqualTo("refresh_token");
-        verify(refreshTokenService).saveRefreshToken(user.getEmail(), "refresh_token");
+        verify(refreshTokenService).saveRefreshToken(user.getEmail(), "refresh_token", EXPIRES_AT);
+        verify(loginThrottle).recordSuccess("john@example.com", CLIENT_IP);
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -175,41 +196,55 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any()))
                 .thenThrow(new BadCredentialsException("Bad credentials"));
 
-        assertThatThrownBy(() -> authService.login(request))
+        assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
                 .isInstanceOf(BadCredentialsException.class);
+        verify(loginThrottle).recordFailure("john@example.com", CLIENT_IP);
+    }
+
+    @Test
+    @DisplayName("Throttled login is rejected before authentication")
+    void login_throttledBeforeAuthentication() {
+        LoginRequest request = new LoginRequest("john@example.com", "password123");
+
+        doThrow(new TooManyRequestsException("Too many login attempts", 60))
+                .when(loginThrottle).acquire("john@example.com", CLIENT_IP);
+
+        assertThatThrownBy(() -> authService.login(request, CLIENT_IP))
+                .isInstanceOf(TooManyRequestsException.class);
+        verifyNoInteractions(authenticationManager, userRepository);
     }
 
     @Test
-    @DisplayName("Throws exception when authenticated user not found in the db")
-    void login_throwsWhenAuthenticatedUserNotFoundInDb() {
-        LoginRequest request = new LoginRequest("ghost@example.com", "password");
-        CustomUserDetails userDetails = mock(CustomUserDetails.class);
+    @DisplayName("Access token claims come from the authenticated principal")
+    void login_buildsClaimsFromPrincipal() {
+        LoginRequest request = new LoginRequest("john@example.com", "password123");
         Authentication authentication = mock(Authentication.class);
 
         when(authenticationManager.authenticate(any())).thenReturn(authentication);
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn("ghost@example.com");
-        when(userRepository.findByEmail("ghost@example.com")).thenReturn(Optional.empty());
+        when(authentication.getPrincipal()).thenReturn(new CustomUserDetails(user, "ADMIN"));
+        when(jwtService.generateAccessToken(any(), anyMap())).thenReturn("at");
+        when(jwtService.generateRefreshToken(any())).thenReturn(new IssuedToken("rt", EXPIRES_AT));
 
-        assertThatThrownBy(() -> authService.login(request))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("Authenticated user not found in database");
+        authService.login(request, CLIENT_IP);
+
+        verify(jwtService).generateAccessToken("john@example.com",
+                Map.of("userId", 1L, "username", "johndoe", "role", "ADMIN"));
+        verifyNoInteractions(userRepository, roleRegistry);
     }
 
     @Test
     @DisplayName("Pass correct credentials to authentication manager")
     void login_passesCorrectCredentialsToAuthenticationManager() {
         LoginRequest request = new LoginRequest("john@example.com", "password123");
-        CustomUserDetails userDetails = new CustomUserDetails(user);
+        CustomUserDetails userDetails = new CustomUserDetails(user, "USER");
         Authentication authentication = mock(Authentication.class);
 
         when(authenticationManager.authenticate(any())).thenReturn(authentication);
         when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userRepository.findByEmail(any())).thenReturn(Optional.of(user));
         when(jwtService.generateAccessToken(any(), anyMap())).thenReturn("at");
-        when(jwtService.generateRefreshToken(any())).thenReturn("rt");
+        when(jwtService.generateRefreshToken(any())).thenReturn(new IssuedToken("rt", EXPIRES_AT));
 
-        authService.login(request);
+        authService.login(request, CLIENT_IP);
 
         verify(authenticationManager).authenticate(
                 new UsernamePasswordAuthenticationToken("john@example.com", "password123")
@@ -222,18 +257,22 @@ class AuthServiceTest {
     void refreshToken_success() {
         RefreshTokenRequest request = new RefreshTokenRequest("old_refresh_token");
 
-        when(jwtService.extractUsername("old_refresh_token")).thenReturn(user.getEmail());
+        when(jwtService.verifyToken("old_refresh_token")).thenReturn(verifiedRefreshToken(user.getEmail()));
         when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(jwtService.validateRefreshToken(eq("old_refresh_token"), any())).thenReturn(true);
-        when(refreshTokenService.isRefreshTokenValid(user.getEmail(), "old_refresh_token")).thenReturn(true);
+        when(jwtService.validateRefreshToken(any(VerifiedToken.class), any())).thenReturn(true);
         when(jwtService.generateAccessToken(eq(user.getEmail()), anyMap())).thenReturn("new_access_token");
-        when(jwtService.generateRefreshToken(user.getEmail())).thenReturn("new_refresh_token");
+        when(jwtService.generateRefreshToken(user.getEmail()))
+                .thenReturn(new IssuedToken("new_refresh_token", EXPIRES_AT));
+        when(refreshTokenService.rotateRefreshToken(
+                user.getEmail(), "old_refresh_token", OLD_EXPIRES_AT, "new_refresh_token", EXPIRES_AT))
+                .thenReturn(RotationResult.ROTATED);
 
         AuthResponse response = authService.refreshToken(request);
 
         assertThat(response.getAccessToken()).isEqualTo("new_access_token");
         assertThat(response.getRefreshToken()).isEqualTo("new_refresh_token");
-        verify(refreshTokenService).rotateRefreshToken(user.getEmail(), "old_refresh_token", "new_refresh_token");
+        verify(refreshTokenService).rotateRefreshToken(
+                user.getEmail(), "old_refresh_token", OLD_EXPIRES_AT, "new_refresh_token", EXPIRES_AT);
     }
 
     @Test
@@ -241,7 +280,7 @@ class AuthServiceTest {
     void refreshToken_throwsWhenUserNotFound() {
         RefreshTokenRequest request = new RefreshTokenRequest("some_token");
 
-        when(jwtService.extractUsername("some_token")).thenReturn("ghost@example.com");
+        when(jwtService.verifyToken("some_token")).thenReturn(verifiedRefreshToken("ghost@example.com"));
         when(userRepository.findByEmail("ghost@example.com")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> authService.refreshToken(request))
@@ -254,9 +293,9 @@ class AuthServiceTest {
     void refreshToken_throwsWhenJwtValidationFails() {
         RefreshTokenRequest request = new RefreshTokenRequest("tampered_token");
 
-        when(jwtService.extractUsername("tampered_token")).thenReturn(user.getEmail());
+        when(jwtService.verifyToken("tampered_token")).thenReturn(verifiedRefreshToken(user.getEmail()));
         when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(jwtService.validateRefreshToken(eq("tampered_token"), any())).thenReturn(false);
+        when(jwtService.validateRefreshToken(any(VerifiedToken.class), any())).thenReturn(false);
 
         assertThatThrownBy(() -> authService.refreshToken(request))
                 .isInstanceOf(IllegalStateException.class)
@@ -264,18 +303,39 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("Throws exception when token not recognized")
-    void refreshToken_throwsWhenTokenNotRecognizedInStore() {
-        RefreshTokenRequest request = new RefreshTokenRequest("unrecognized_token");
+    @DisplayName("Throws exception when a rotated token is replayed")
+    void refreshToken_throwsWhenReuseDetected() {
+        RefreshTokenRequest request = new RefreshTokenRequest("replayed_token");
 
-        when(jwtService.extractUsername("unrecognized_token")).thenReturn(user.getEmail());
+        when(jwtService.verifyToken("replayed_token")).thenReturn(verifiedRefreshToken(user.getEmail()));
         when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(jwtService.validateRefreshToken(eq("unrecognized_token"), any())).thenReturn(true);
-        when(refreshTokenService.isRefreshTokenValid(user.getEmail(), "unrecognized_token")).thenReturn(false);
+        when(jwtService.validateRefreshToken(any(VerifiedToken.class), any())).thenReturn(true);
+        when(jwtService.generateAccessToken(any(), anyMap())).thenReturn("at");
+        when(jwtService.generateRefreshToken(any())).thenReturn(new IssuedToken("new_token", EXPIRES_AT));
+        when(refreshTokenService.rotateRefreshToken(
+                user.getEmail(), "replayed_token", OLD_EXPIRES_AT, "new_token", EXPIRES_AT))
+                .thenReturn(RotationResult.REUSE_DETECTED);
 
         assertThatThrownBy(() -> authService.refreshToken(request))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("Refresh token not recognized");
+                .isInstanceOf(RefreshTokenReuseException.class);
+    }
+
+    @Test
+    @DisplayName("Returns a conflict when another request rotated the token moments ago")
+    void refreshToken_conflictWhenAlreadyRotated() {
+        RefreshTokenRequest request = new RefreshTokenRequest("old_token");
+
+        when(jwtService.verifyToken("old_token")).thenReturn(verifiedRefreshToken(user.getEmail()));
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(jwtService.validateRefreshToken(any(VerifiedToken.class), any())).thenReturn(true);
+        when(jwtService.generateAccessToken(any(), anyMap())).thenReturn("at");
+        when(jwtService.generateRefreshToken(any())).thenReturn(new IssuedToken("new_token", EXPIRES_AT));
+        when(refreshTokenService.rotateRefreshToken(
+                user.getEmail(), "old_token", OLD_EXPIRES_AT, "new_token", EXPIRES_AT))
+                .thenReturn(RotationResult.ALREADY_ROTATED);
+
+        assertThatThrownBy(() -> authService.refreshToken(request))
+                .isInstanceOf(ConflictException.class);
     }
 
     @Test
@@ -283,16 +343,28 @@ class AuthServiceTest {
     void refreshToken_rotatesTokenRatherThanSavingNew() {
         RefreshTokenRequest request = new RefreshTokenRequest("old_token");
 
-        when(jwtService.extractUsername("old_token")).thenReturn(user.getEmail());
+        when(jwtService.verifyToken("old_token")).thenReturn(verifiedRefreshToken(user.getEmail()));
         when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(jwtService.validateRefreshToken(eq("old_token"), any())).thenReturn(true);
-        when(refreshTokenService.isRefreshTokenValid(user.getEmail(), "old_token")).thenReturn(true);
+        when(jwtService.validateRefreshToken(any(VerifiedToken.class), any())).thenReturn(true);
         when(jwtService.generateAccessToken(any(), anyMap())).thenReturn("at");
-        when(jwtService.generateRefreshToken(any())).thenReturn("new_token");
+        when(jwtService.generateRefreshToken(any())).thenReturn(new IssuedToken("new_token", EXPIRES_AT));
+        when(refreshTokenService.rotateRefreshToken(
+                user.getEmail(), "old_token", OLD_EXPIRES_AT, "new_token", EXPIRES_AT))
+                .thenReturn(RotationResult.ROTATED);
 
         authService.refreshToken(request);
 
-        verify(refreshTokenService, never()).saveRefreshToken(any(), any());
-        verify(refreshTokenService).rotateRefreshToken(user.getEmail(), "old_token", "new_token");
+        verify(refreshTokenService, never()).saveRefreshToken(any(), any(), any());
+        verify(refreshTokenService).rotateRefreshToken(
+                user.getEmail(), "old_token", OLD_EXPIRES_AT, "new_token", EXPIRES_AT);
+    }
+
+    private static VerifiedToken verifiedRefreshToken(String email) {
+        return new VerifiedToken(email, TokenType.REFRESH, OLD_EXPIRES_AT, null);
+    }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), constraintName));
     }
-}
\ No newline at end of file
+}
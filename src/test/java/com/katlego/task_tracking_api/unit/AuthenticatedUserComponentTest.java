@@ -0,0 +1,82 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.common.AuthenticatedUserComponent;
+import com.katlego.task_tracking_api.common.RoleRegistry;
+import com.katlego.task_tracking_api.domain.Role;
+import com.katlego.task_tracking_api.domain.User;
+import com.katlego.task_tracking_api.repository.UserRepository;
+import com.katlego.task_tracking_api.security.entity.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Authenticated user component tests")
+class AuthenticatedUserComponentTest {
+
+    private static final String EMAIL = "john@example.com";
+
+    @Mock private UserRepository userRepository;
+    @Mock private RoleRegistry roleRegistry;
+
+    @InjectMocks
+    private AuthenticatedUserComponent authenticatedUserComponent;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Id and role come from a CustomUserDetails principal without a user lookup")
+    void customPrincipal_noLookup() {
+        authenticateAs(new CustomUserDetails(1L, EMAIL, "ADMIN"));
+
+        assertThat(authenticatedUserComponent.getCurrentUserId()).isEqualTo(1L);
+        assertThat(authenticatedUserComponent.isAdmin()).isTrue();
+        verifyNoInteractions(userRepository, roleRegistry);
+    }
+
+    @Test
+    @DisplayName("A principal without the id or role falls back to the database")
+    void otherPrincipal_loadsUser() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(EMAIL);
+        user.setRole(new Role(2L, "USER"));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(roleRegistry.nameOf(2L)).thenReturn("USER");
+        authenticateAs(EMAIL);
+
+        assertThat(authenticatedUserComponent.getCurrentUserId()).isEqualTo(1L);
+        assertThat(authenticatedUserComponent.isAdmin()).isFalse();
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("Throws when no user is authenticated")
+    void noAuthentication_throws() {
+        assertThatThrownBy(() -> authenticatedUserComponent.getCurrentUserId())
+                .isInstanceOf(AuthenticationException.class);
+    }
+
+    private static void authenticateAs(Object principal) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                principal, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,100 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.exception.ServiceUnavailableException;
+import com.katlego.task_tracking_api.security.service.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bounded password encoder tests")
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("Delegates encode and matches to the wrapped encoder")
+    void encodeAndMatch() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, 5_000, new SimpleMeterRegistry());
+
+        String hash = encoder.encode("secret");
+
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("other", hash)).isFalse();
+        assertThat(encoder.getHashCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Rejects immediately once the pool and its queue are full")
+    void rejectsWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started), 1, 1, 5_000, new SimpleMeterRegistry());
+
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> encoder.encode("queued"));
+        waitForQueueDepth(1);
+
+        assertThatThrownBy(() -> encoder.encode("rejected"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(encoder.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Gives up after the maximum wait")
+    void rejectsAfterMaxWait() {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(new CountDownLatch(1)), 1, 1, 50, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> encoder.matches("slow", "hash"))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                awaitRelease();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                awaitRelease();
+                return true;
+            }
+        };
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.getQueueDepth() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
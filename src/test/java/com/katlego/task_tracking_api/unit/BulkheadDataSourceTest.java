@@ -0,0 +1,63 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.config.BulkheadDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Connection bulkhead tests")
+class BulkheadDataSourceTest {
+
+    @Mock private DataSource target;
+    @Mock private Connection connection;
+
+    private BulkheadDataSource bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new BulkheadDataSource(target, 1, 50);
+    }
+
+    @Test
+    @DisplayName("Times out while every permit is held and recovers once the connection is closed")
+    void permitHeldUntilClose() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection first = bulkhead.getConnection();
+
+        assertThatThrownBy(() -> bulkhead.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(bulkhead.getRejectedCount()).isEqualTo(1);
+
+        first.close();
+        first.close();
+
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+        verify(connection, times(2)).close();
+        assertThat(bulkhead.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Releases the permit when the pool itself fails")
+    void releasesPermitOnPoolFailure() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+
+        assertThatThrownBy(() -> bulkhead.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessage("pool timeout");
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.security.entity.CustomUserDetails;
+import com.katlego.task_tracking_api.security.jwt.filter.JwtAuthenticationFilter;
+import com.katlego.task_tracking_api.security.jwt.service.JwtService;
+import com.katlego.task_tracking_api.security.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JWT authentication filter tests")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-that-is-long-enough-for-hs256-signing";
+    private static final String EMAIL = "john@example.com";
+
+    @Mock private CustomUserDetailsService userDetailsService;
+
+    private final JwtService jwtService = new JwtService(SECRET, 60_000, 120_000, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Claims-trusted mode builds the principal from the token without a user lookup")
+    void claimsTrusted_buildsPrincipalFromClaims() throws Exception {
+        authenticate(filter(true), "/api/task", accessToken(Map.of("userId", 1L, "role", "USER")));
+
+        CustomUserDetails principal = currentPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUsername()).isEqualTo(EMAIL);
+        assertThat(principal.getRole()).isEqualTo("USER");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Claims-trusted mode still loads the user on a revocation-sensitive path")
+    void claimsTrusted_sensitivePathLoadsUser() throws Exception {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(new CustomUserDetails(1L, EMAIL, "ADMIN"));
+
+        authenticate(filter(true), "/api/user/me", accessToken(Map.of("userId", 1L, "role", "USER")));
+
+        assertThat(currentPrincipal().getRole()).isEqualTo("ADMIN");
+        verify(userDetailsService).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    @DisplayName("Claims-trusted mode loads the user when the token lacks the id or role claim")
+    void claimsTrusted_missingClaimsLoadsUser() throws Exception {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(new CustomUserDetails(1L, EMAIL, "USER"));
+
+        authenticate(filter(true), "/api/task", accessToken(Map.of("role", "USER")));
+
+        assertThat(currentPrincipal().getId()).isEqualTo(1L);
+        verify(userDetailsService).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    @DisplayName("By default every request loads the user")
+    void default_loadsUser() throws Exception {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(new CustomUserDetails(1L, EMAIL, "USER"));
+
+        authenticate(filter(false), "/api/task", accessToken(Map.of("userId", 1L, "role", "USER")));
+
+        assertThat(currentPrincipal().getId()).isEqualTo(1L);
+        verify(userDetailsService).loadUserByUsername(EMAIL);
+    }
+
+    private JwtAuthenticationFilter filter(boolean claimsTrusted) {
+        return new JwtAuthenticationFilter(jwtService, userDetailsService, claimsTrusted, List.of("/api/user/**"));
+    }
+
+    private String accessToken(Map<String, Object> claims) {
+        return jwtService.generateAccessToken(EMAIL, claims);
+    }
+
+    private static void authenticate(JwtAuthenticationFilter filter, String path, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    private static CustomUserDetails currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        return (CustomUserDetails) authentication.getPrincipal();
+    }
+}
@@ -0,0 +1,107 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.domain.Role;
+import com.katlego.task_tracking_api.domain.User;
+import com.katlego.task_tracking_api.security.entity.CustomUserDetails;
+import com.katlego.task_tracking_api.security.entity.TokenType;
+import com.katlego.task_tracking_api.security.jwt.service.IssuedToken;
+import com.katlego.task_tracking_api.security.jwt.service.JwtService;
+import com.katlego.task_tracking_api.security.jwt.service.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JWT service tests")
+class JwtServiceTest {
+
+    private static final String SECRET = "test-secret-that-is-long-enough-for-hs256-signing";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private CustomUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(SECRET, 60_000, 120_000, meterRegistry);
+
+        Role role = new Role(2L, "USER");
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("john@example.com");
+        user.setUsername("john");
+        user.setPasswordHash("hash");
+        user.setRole(role);
+        userDetails = new CustomUserDetails(user, "USER");
+    }
+
+    @Test
+    @DisplayName("verifyToken exposes subject, type and expiry from a single parse")
+    void verifyToken_returnsAllClaims() {
+        String token = jwtService.generateAccessToken("john@example.com", Map.of("role", "USER"));
+
+        VerifiedToken verified = jwtService.verifyToken(token);
+
+        assertThat(verified.subject()).isEqualTo("john@example.com");
+        assertThat(verified.tokenType()).isEqualTo(TokenType.ACCESS);
+        assertThat(verified.isExpired()).isFalse();
+        assertThat(verified.claims().get("role", String.class)).isEqualTo("USER");
+    }
+
+    @Test
+    @DisplayName("validateAccessToken accepts a verified access token for the same user")
+    void validateAccessToken_acceptsMatchingUser() {
+        VerifiedToken verified = jwtService.verifyToken(
+                jwtService.generateAccessToken("john@example.com", Map.of()));
+
+        assertThat(jwtService.validateAccessToken(verified, userDetails)).isTrue();
+    }
+
+    @Test
+    @DisplayName("validateAccessToken rejects a refresh token")
+    void validateAccessToken_rejectsRefreshToken() {
+        String refreshToken = jwtService.generateRefreshToken("john@example.com").token();
+
+        assertThat(jwtService.validateAccessToken(refreshToken, userDetails)).isFalse();
+        assertThat(jwtService.validateRefreshToken(refreshToken, userDetails)).isTrue();
+    }
+
+    @Test
+    @DisplayName("generateRefreshToken reports the expiry carried in the token's exp claim")
+    void generateRefreshToken_expiryMatchesClaim() {
+        IssuedToken issued = jwtService.generateRefreshToken("john@example.com");
+
+        assertThat(jwtService.verifyToken(issued.token()).expiresAt()).isEqualTo(issued.expiresAt());
+        assertThat(jwtService.generateRefreshToken("john@example.com").token()).isNotEqualTo(issued.token());
+    }
+
+    @Test
+    @DisplayName("verifyToken rejects a token signed with another key")
+    void verifyToken_rejectsForeignSignature() {
+        JwtService otherService = new JwtService(
+                "another-secret-that-is-long-enough-for-hs256", 60_000, 120_000, new SimpleMeterRegistry());
+        String foreignToken = otherService.generateAccessToken("john@example.com", Map.of());
+
+        assertThatThrownBy(() -> jwtService.verifyToken(foreignToken))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Signing and verification are timed by outcome and token type")
+    void recordsTimers() {
+        String token = jwtService.generateRefreshToken("john@example.com").token();
+        jwtService.verifyToken(token);
+        assertThatThrownBy(() -> jwtService.verifyToken(token + "x"));
+
+        assertThat(meterRegistry.get("jwt.sign").tag("type", "refresh").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verify").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verify").tag("outcome", "failure").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,76 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.exception.TooManyRequestsException;
+import com.katlego.task_tracking_api.security.service.LoginThrottle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Login throttle tests")
+class LoginThrottleTest {
+
+    private static final String IP = "203.0.113.7";
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final LoginThrottle throttle = new LoginThrottle(true, 60, 3, 2, 1000, now::get);
+
+    @Test
+    @DisplayName("Rejects an IP once it reaches its attempt limit")
+    void rejectsIpOverLimit() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("user" + i + "@example.com", IP);
+        }
+
+        assertThatThrownBy(() -> throttle.acquire("other@example.com", IP))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(throttle.getRejectedByIp()).isEqualTo(1);
+        assertThatCode(() -> throttle.acquire("other@example.com", "198.51.100.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Rejects an account from an IP after repeated failures from that IP")
+    void rejectsEmailAndIpAfterFailures() {
+        throttle.recordFailure("john@example.com", IP);
+        throttle.recordFailure("JOHN@example.com ", IP);
+
+        assertThatThrownBy(() -> throttle.acquire("john@example.com", IP))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(throttle.getRejectedByEmail()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Failures from one IP do not lock the account out from another")
+    void failuresDoNotLockOutOtherIps() {
+        throttle.recordFailure("john@example.com", IP);
+        throttle.recordFailure("john@example.com", IP);
+
+        assertThatCode(() -> throttle.acquire("john@example.com", "198.51.100.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("A successful login clears the failures for that account and IP")
+    void successClearsFailures() {
+        throttle.recordFailure("john@example.com", IP);
+        throttle.recordSuccess("john@example.com", IP);
+        throttle.recordFailure("john@example.com", IP);
+
+        assertThatCode(() -> throttle.acquire("john@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Attempts age out of the sliding window")
+    void windowSlides() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("john@example.com", IP);
+        }
+
+        now.addAndGet(120_000L);
+
+        assertThatCode(() -> throttle.acquire("john@example.com", IP)).doesNotThrowAnyException();
+    }
+}
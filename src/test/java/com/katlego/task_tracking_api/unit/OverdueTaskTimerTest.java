@@ -0,0 +1,121 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.domain.TaskStatus;
+import com.katlego.task_tracking_api.repository.TaskRepository;
+import com.katlego.task_tracking_api.scheduler.OverdueTaskTimer;
+import com.katlego.task_tracking_api.service.TaskEventBus;
+import com.katlego.task_tracking_api.service.TaskResponseCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Overdue task timer tests")
+class OverdueTaskTimerTest {
+
+    @Mock private TaskRepository taskRepository;
+    // TransactionTemplate runs the callback between getTransaction and commit, both no-ops here.
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private TaskResponseCache taskResponseCache;
+    @Mock private TaskEventBus taskEventBus;
+
+    private OverdueTaskTimer timer;
+
+    @AfterEach
+    void tearDown() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("A rescheduled task fires at its new due date; the stale queue entry is skipped")
+    void reschedule_skipsStaleEntry() {
+        timer = timer(100);
+        Instant rescheduledDue = Instant.now().plusMillis(500);
+        AtomicReference<Instant> firedAt = new AtomicReference<>();
+        when(taskRepository.markOverdueByIds(eq(List.of(1L)), any())).thenAnswer(invocation -> {
+            firedAt.set(Instant.now());
+            return List.of();
+        });
+
+        timer.schedule(1L, Instant.now().plusMillis(50), TaskStatus.NEW);
+        timer.schedule(1L, rescheduledDue, TaskStatus.NEW);
+        timer.start();
+
+        verify(taskRepository, timeout(5000)).markOverdueByIds(eq(List.of(1L)), any());
+        verify(taskRepository, after(300).times(1)).markOverdueByIds(anyList(), any());
+        assertThat(firedAt.get()).isAfterOrEqualTo(rescheduledDue);
+        verify(taskResponseCache).invalidate(List.of(1L));
+        assertThat(timer.scheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("A cancelled task never fires")
+    void cancel_preventsFiring() {
+        timer = timer(100);
+
+        timer.schedule(1L, Instant.now().plusMillis(100), TaskStatus.NEW);
+        timer.cancel(1L);
+        timer.start();
+
+        verify(taskRepository, after(500).never()).markOverdueByIds(anyList(), any());
+        assertThat(timer.scheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Tasks moved beyond the lookahead or out of an active status are unscheduled")
+    void schedule_removesIneligibleTasks() {
+        timer = timer(100);
+        Instant soon = Instant.now().plusSeconds(60);
+
+        timer.schedule(1L, soon, TaskStatus.NEW);
+        timer.schedule(2L, soon, TaskStatus.IN_PROGRESS);
+        timer.schedule(3L, soon, TaskStatus.DELAYED);
+        assertThat(timer.scheduledCount()).isEqualTo(3);
+
+        timer.schedule(1L, Instant.now().plusSeconds(3600), TaskStatus.NEW);
+        timer.schedule(2L, soon, TaskStatus.COMPLETED);
+        timer.schedule(3L, null, TaskStatus.DELAYED);
+
+        assertThat(timer.scheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("At max-scheduled new tasks are rejected but scheduled ones can still be updated")
+    void maxScheduled_acceptsUpdatesOnly() {
+        timer = timer(2);
+        Instant later = Instant.now().plusSeconds(60);
+
+        timer.schedule(1L, later, TaskStatus.NEW);
+        timer.schedule(2L, later, TaskStatus.NEW);
+        timer.schedule(3L, Instant.now().minusSeconds(1), TaskStatus.NEW);
+        assertThat(timer.scheduledCount()).isEqualTo(2);
+
+        timer.schedule(1L, Instant.now().minusSeconds(1), TaskStatus.NEW);
+        timer.start();
+
+        verify(taskRepository, timeout(5000)).markOverdueByIds(eq(List.of(1L)), any());
+        verify(taskRepository, after(300).times(1)).markOverdueByIds(anyList(), any());
+        assertThat(timer.scheduledCount()).isEqualTo(1);
+    }
+
+    private OverdueTaskTimer timer(int maxScheduled) {
+        return new OverdueTaskTimer(taskRepository, transactionManager, taskResponseCache, taskEventBus,
+                true, 10, maxScheduled, 500);
+    }
+}
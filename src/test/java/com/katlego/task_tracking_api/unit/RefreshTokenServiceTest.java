@@ -0,0 +1,123 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.security.entity.RefreshToken;
+import com.katlego.task_tracking_api.security.repository.RefreshTokenRepository;
+import com.katlego.task_tracking_api.security.service.RefreshTokenService;
+import com.katlego.task_tracking_api.security.service.RotationResult;
+import com.katlego.task_tracking_api.security.service.UserPrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Refresh token service tests")
+class RefreshTokenServiceTest {
+
+    private static final Instant OLD_EXPIRES_AT = Instant.parse("2030-01-01T00:00:00Z");
+    private static final Instant NEW_EXPIRES_AT = Instant.parse("2030-01-02T00:00:00Z");
+
+    @Mock private RefreshTokenRepository refreshTokenRepository;
+    @Mock private UserPrincipalCache userPrincipalCache;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, userPrincipalCache, 10_000);
+    }
+
+    @Test
+    @DisplayName("hash produces the 32-byte SHA-256 digest")
+    void hash_isSha256() {
+        assertThat(HexFormat.of().formatHex(RefreshTokenService.hash("abc")))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    @DisplayName("saveRefreshToken stores only the digest, with the token's own expiry")
+    void saveRefreshToken_storesDigest() {
+        refreshTokenService.saveRefreshToken("john@example.com", "refresh_token", NEW_EXPIRES_AT);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getTokenHash()).isEqualTo(RefreshTokenService.hash("refresh_token"));
+        assertThat(captor.getValue().getExpiresAt()).isEqualTo(NEW_EXPIRES_AT);
+    }
+
+    @Test
+    @DisplayName("rotateRefreshToken revokes every token of the user when the old one is unknown")
+    void rotateRefreshToken_revokesOnReuse() {
+        when(refreshTokenRepository.rotate(eq("john@example.com"), any(), any(), any(), any(), any())).thenReturn(0);
+
+        RotationResult result = rotate("old", "new");
+
+        assertThat(result).isEqualTo(RotationResult.REUSE_DETECTED);
+        verify(refreshTokenRepository).deleteByEmail("john@example.com");
+        verify(userPrincipalCache).invalidate("john@example.com");
+    }
+
+    @Test
+    @DisplayName("rotateRefreshToken keeps other tokens when the rotation succeeds")
+    void rotateRefreshToken_rotated() {
+        when(refreshTokenRepository.rotate(eq("john@example.com"), any(), any(), any(), any(), any())).thenReturn(1);
+
+        RotationResult result = rotate("old", "new");
+
+        assertThat(result).isEqualTo(RotationResult.ROTATED);
+        verify(refreshTokenRepository, never()).deleteByEmail(any());
+    }
+
+    @Test
+    @DisplayName("rotateRefreshToken revokes nothing when the token was replaced within the grace window")
+    void rotateRefreshToken_alreadyRotatedWithinGrace() {
+        when(refreshTokenRepository.rotate(eq("john@example.com"), any(), any(), any(), any(), any())).thenReturn(0);
+        when(refreshTokenRepository.findByTokenHashAndExpiresAt(any(), eq(OLD_EXPIRES_AT)))
+                .thenReturn(Optional.of(replaced(Instant.now().minusSeconds(1))));
+
+        RotationResult result = rotate("old", "new");
+
+        assertThat(result).isEqualTo(RotationResult.ALREADY_ROTATED);
+        verify(refreshTokenRepository, never()).deleteByEmail(any());
+    }
+
+    @Test
+    @DisplayName("rotateRefreshToken revokes every token when a replaced token is used after the grace window")
+    void rotateRefreshToken_revokesAfterGrace() {
+        when(refreshTokenRepository.rotate(eq("john@example.com"), any(), any(), any(), any(), any())).thenReturn(0);
+        when(refreshTokenRepository.findByTokenHashAndExpiresAt(any(), eq(OLD_EXPIRES_AT)))
+                .thenReturn(Optional.of(replaced(Instant.now().minusSeconds(60))));
+
+        RotationResult result = rotate("old", "new");
+
+        assertThat(result).isEqualTo(RotationResult.REUSE_DETECTED);
+        verify(refreshTokenRepository).deleteByEmail("john@example.com");
+    }
+
+    private static RefreshToken replaced(Instant replacedAt) {
+        RefreshToken token = new RefreshToken();
+        token.setEmail("john@example.com");
+        token.setTokenHash(RefreshTokenService.hash("old"));
+        token.setExpiresAt(OLD_EXPIRES_AT);
+        token.setReplacedAt(replacedAt);
+        token.setReplacedByHash(RefreshTokenService.hash("newer"));
+        return token;
+    }
+
+    private RotationResult rotate(String oldToken, String newToken) {
+        return refreshTokenService.rotateRefreshToken(
+                "john@example.com", oldToken, OLD_EXPIRES_AT, newToken, NEW_EXPIRES_AT);
+    }
+}
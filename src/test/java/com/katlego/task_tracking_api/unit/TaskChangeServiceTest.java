@@ -0,0 +1,127 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.common.AuthenticatedUserComponent;
+import com.katlego.task_tracking_api.domain.TaskTombstone;
+import com.katlego.task_tracking_api.dto.task.TaskChangeCursor;
+import com.katlego.task_tracking_api.dto.task.TaskChangePage;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.exception.GoneException;
+import com.katlego.task_tracking_api.repository.TaskRepository;
+import com.katlego.task_tracking_api.repository.TaskTombstoneRepository;
+import com.katlego.task_tracking_api.service.TaskChangeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskChangeServiceTest {
+
+    @Mock private TaskRepository taskRepository;
+    @Mock private TaskTombstoneRepository taskTombstoneRepository;
+    @Mock private AuthenticatedUserComponent authenticatedUserComponent;
+
+    private TaskChangeService taskChangeService;
+    private final Instant base = Instant.now().minus(Duration.ofHours(1));
+
+    @BeforeEach
+    void setUp() {
+        taskChangeService = new TaskChangeService(
+                taskRepository, taskTombstoneRepository, authenticatedUserComponent, 5000, 30, Duration.ofSeconds(4));
+    }
+
+    @Test
+    @DisplayName("Refuses a transaction timeout that is missing or not shorter than the settle window")
+    void rejectsTransactionTimeoutOutsideSettleWindow() {
+        assertThatThrownBy(() -> new TaskChangeService(
+                taskRepository, taskTombstoneRepository, authenticatedUserComponent, 5000, 30, Duration.ZERO))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new TaskChangeService(
+                taskRepository, taskTombstoneRepository, authenticatedUserComponent, 5000, 30, Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("settle-ms");
+    }
+
+    @Test
+    @DisplayName("Changes and removals are merged in (updatedAt, id) order with a cursor at the last one")
+    void mergesChangesAndRemovals() {
+        when(authenticatedUserComponent.getCurrentUserId()).thenReturn(1L);
+        when(taskRepository.findAssignedTaskChanges(eq(1L), eq(Instant.EPOCH), eq(0L), any(), any()))
+                .thenReturn(List.of(task(10L, base), task(11L, base.plusSeconds(2))));
+        when(taskTombstoneRepository.findRemovedSince(eq(1L), eq(Instant.EPOCH), eq(0L), any(), any()))
+                .thenReturn(List.of(tombstone(12L, base.plusSeconds(1)), tombstone(13L, base.plusSeconds(3))));
+
+        TaskChangePage page = taskChangeService.getMyTaskChanges(null, 3);
+
+        assertThat(page.getChanged()).extracting(TaskResponse::getId).containsExactly(10L, 11L);
+        assertThat(page.getRemovedTaskIds()).containsExactly(12L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(TaskChangeCursor.decode(page.getNextCursor()))
+                .isEqualTo(new TaskChangeCursor(base.plusSeconds(2), 11L));
+    }
+
+    @Test
+    @DisplayName("A task removed and then changed again within a page is reported as changed")
+    void keepsLatestChangePerTask() {
+        when(authenticatedUserComponent.getCurrentUserId()).thenReturn(1L);
+        when(taskRepository.findAssignedTaskChanges(eq(1L), any(), any(), any(), any()))
+                .thenReturn(List.of(task(10L, base.plusSeconds(1))));
+        when(taskTombstoneRepository.findRemovedSince(eq(1L), any(), any(), any(), any()))
+                .thenReturn(List.of(tombstone(10L, base)));
+
+        TaskChangePage page = taskChangeService.getMyTaskChanges(null, 50);
+
+        assertThat(page.getChanged()).extracting(TaskResponse::getId).containsExactly(10L);
+        assertThat(page.getRemovedTaskIds()).isEmpty();
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Without more changes the cursor moves up to the settle window")
+    void advancesIdleCursor() {
+        TaskChangeCursor since = new TaskChangeCursor(base, 10L);
+        when(authenticatedUserComponent.getCurrentUserId()).thenReturn(1L);
+
+        TaskChangePage page = taskChangeService.getMyTaskChanges(since.encode(), 50);
+
+        TaskChangeCursor next = TaskChangeCursor.decode(page.getNextCursor());
+        assertThat(page.getChanged()).isEmpty();
+        assertThat(next.updatedAt()).isAfter(base).isBefore(Instant.now().minusMillis(4000));
+        assertThat(next.id()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("A cursor older than the tombstone retention is rejected with 410")
+    void rejectsExpiredCursor() {
+        String since = new TaskChangeCursor(Instant.now().minus(Duration.ofDays(31)), 1L).encode();
+
+        assertThatThrownBy(() -> taskChangeService.getMyTaskChanges(since, 50))
+                .isInstanceOf(GoneException.class);
+
+        verifyNoInteractions(taskRepository, taskTombstoneRepository);
+    }
+
+    private static TaskResponse task(Long id, Instant updatedAt) {
+        TaskResponse task = new TaskResponse();
+        task.setId(id);
+        task.setAssignedUserId(1L);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+
+    private static TaskTombstone tombstone(Long taskId, Instant removedAt) {
+        return new TaskTombstone(taskId, 1L, removedAt);
+    }
+}
@@ -0,0 +1,75 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.controller.TaskController;
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.service.TaskChangeService;
+import com.katlego.task_tracking_api.service.TaskExportService;
+import com.katlego.task_tracking_api.service.TaskService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Task controller conditional GET tests")
+class TaskControllerTest {
+
+    @Mock private TaskService taskService;
+    @Mock private TaskExportService taskExportService;
+    @Mock private TaskChangeService taskChangeService;
+
+    @InjectMocks
+    private TaskController taskController;
+
+    @Test
+    @DisplayName("getTaskById answers a matching If-None-Match with 304 without loading the task")
+    void getTaskById_notModified() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(getTask("\"10-3\""), response);
+        when(taskService.getTaskVersion(10L)).thenReturn(3L);
+
+        ResponseEntity<TaskResponse> result = taskController.getTaskById(10L, webRequest);
+
+        assertThat(result).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"10-3\"");
+        verify(taskService, never()).getTaskById(anyLong());
+    }
+
+    @Test
+    @DisplayName("getTaskById returns the task with its ETag when the version has changed")
+    void getTaskById_modified() {
+        TaskResponse task = new TaskResponse();
+        task.setId(10L);
+        task.setVersion(4L);
+        ServletWebRequest webRequest = new ServletWebRequest(getTask("\"10-3\""), new MockHttpServletResponse());
+        when(taskService.getTaskVersion(10L)).thenReturn(4L);
+        when(taskService.getTaskById(10L)).thenReturn(task);
+
+        ResponseEntity<TaskResponse> result = taskController.getTaskById(10L, webRequest);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getHeaders().getETag()).isEqualTo("\"10-4\"");
+        assertThat(result.getBody()).isEqualTo(task);
+    }
+
+    private static MockHttpServletRequest getTask(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/task/10");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return request;
+    }
+}
@@ -0,0 +1,60 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.controller.TaskETags;
+import com.katlego.task_tracking_api.exception.PreconditionFailedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Task ETag tests")
+class TaskETagsTest {
+
+    @Test
+    @DisplayName("Formats a strong tag from id and version")
+    void formatsStrongTag() {
+        assertThat(TaskETags.of(1L, 3L)).isEqualTo("\"1-3\"");
+    }
+
+    @Test
+    @DisplayName("An absent, blank or wildcard If-Match is unconditional")
+    void unconditional() {
+        assertThat(TaskETags.expectedVersions(1L, null)).isNull();
+        assertThat(TaskETags.expectedVersions(1L, " ")).isNull();
+        assertThat(TaskETags.expectedVersions(1L, "*")).isNull();
+        assertThat(TaskETags.expectedVersions(1L, "\"1-3\", *")).isNull();
+    }
+
+    @Test
+    @DisplayName("Reads the version from a single strong tag")
+    void singleTag() {
+        assertThat(TaskETags.expectedVersions(1L, "\"1-3\"")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Accepts every tag of the task in a list")
+    void tagList() {
+        assertThat(TaskETags.expectedVersions(1L, "\"1-3\", \"1-4\"")).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Accepts weak tags")
+    void weakTag() {
+        assertThat(TaskETags.expectedVersions(1L, "W/\"1-3\"")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Ignores tags of other tasks and malformed entries in a list")
+    void ignoresOtherEntries() {
+        assertThat(TaskETags.expectedVersions(1L, "\"2-3\", \"1-x\", 1-5, \"1-4\"")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Rejects a header without any tag of the task")
+    void rejectsForeignTags() {
+        assertThatThrownBy(() -> TaskETags.expectedVersions(1L, "\"2-3\", \"11-3\""))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("task 1");
+    }
+}
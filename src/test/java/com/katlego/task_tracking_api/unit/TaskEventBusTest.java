@@ -0,0 +1,127 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.dto.task.TaskEvent;
+import com.katlego.task_tracking_api.dto.task.TaskEventType;
+import com.katlego.task_tracking_api.exception.ServiceUnavailableException;
+import com.katlego.task_tracking_api.service.TaskEventBus;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("Task event bus tests")
+class TaskEventBusTest {
+
+    @Test
+    @DisplayName("Events reach only the streams of the user they are published to")
+    void deliversToSubscribedUser() throws Exception {
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        TaskEventBus bus = new TaskEventBus(16, 10, 60_000, sender);
+        bus.subscribe(1L);
+        bus.subscribe(1L);
+        bus.subscribe(2L);
+
+        bus.publish(1L, event(10L));
+        bus.publish(3L, event(11L));
+        sender.shutdown();
+        assertThat(sender.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(bus.getDeliveredCount()).isEqualTo(2);
+        assertThat(bus.getSubscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("A subscriber whose buffer is full is dropped without affecting others")
+    void dropsSlowSubscriber() {
+        // A stopped executor never drains, so every published event stays buffered.
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        sender.shutdown();
+        TaskEventBus bus = new TaskEventBus(2, 10, 60_000, sender);
+        bus.subscribe(1L);
+        bus.subscribe(2L);
+
+        bus.publish(1L, event(10L));
+        bus.publish(1L, event(11L));
+        bus.publish(2L, event(12L));
+        assertThat(bus.getDroppedCount()).isZero();
+
+        bus.publish(1L, event(13L));
+
+        assertThat(bus.getDroppedCount()).isEqualTo(1);
+        assertThat(bus.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("subscribe is rejected once max-subscribers streams are open")
+    void rejectsBeyondMaxSubscribers() {
+        TaskEventBus bus = new TaskEventBus(2, 1, 60_000, Executors.newSingleThreadExecutor());
+        bus.subscribe(1L);
+
+        assertThatThrownBy(() -> bus.subscribe(2L))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(bus.getSubscriberCount()).isEqualTo(1);
+        bus.shutdown();
+    }
+
+    @Test
+    @DisplayName("A stream that reaches its timeout is completed normally and unsubscribed")
+    void timedOutStreamIsRemoved() throws Exception {
+        ExecutorService sender = Executors.newSingleThreadExecutor();
+        sender.shutdown();
+        TaskEventBus bus = new TaskEventBus(2, 10, 60_000, sender);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(bus)).build();
+
+        MvcResult result = mockMvc.perform(get("/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(bus.getSubscriberCount()).isEqualTo(1);
+
+        // What the container does when the async timeout elapses, and then once the request ends.
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        // No AsyncRequestTimeoutException: the timeout would otherwise be answered with 503.
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        asyncContext.complete();
+
+        assertThat(bus.getSubscriberCount()).isZero();
+    }
+
+    @RestController
+    static class StreamController {
+        private final TaskEventBus bus;
+
+        StreamController(TaskEventBus bus) {
+            this.bus = bus;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream() {
+            return bus.subscribe(1L);
+        }
+    }
+
+    private static TaskEvent event(Long taskId) {
+        return new TaskEvent(TaskEventType.UPDATED, taskId, 1L, null, Instant.now());
+    }
+}
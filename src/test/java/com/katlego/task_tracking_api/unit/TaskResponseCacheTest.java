@@ -0,0 +1,149 @@
+package com.katlego.task_tracking_api.unit;
+
+import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.service.TaskResponseCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Task response cache tests")
+class TaskResponseCacheTest {
+
+    private final TaskResponseCache cache = new TaskResponseCache(100, 60);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Concurrent misses for one id share a single load")
+    void coalescesConcurrentMisses() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        List<CompletableFuture<TaskResponse>> readers = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+                    loads.incrementAndGet();
+                    started.countDown();
+                    awaitRelease();
+                    return response(id, 0L, "title");
+                })))
+                .toList();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        release.countDown();
+
+        for (CompletableFuture<TaskResponse> reader : readers) {
+            assertThat(reader.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("title");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().loadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A slow load does not block reads of other ids")
+    void slowLoadDoesNotBlockOtherIds() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<TaskResponse> slow = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            started.countDown();
+            awaitRelease();
+            return response(id, 0L, "slow");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Loads of every other id finish while id 1 is still loading.
+        for (long id = 2; id < 200; id++) {
+            assertThat(cache.get(id, key -> response(key, 0L, "fast")).getTitle()).isEqualTo("fast");
+        }
+        assertThat(slow).isNotDone();
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("slow");
+    }
+
+    @Test
+    @DisplayName("A load that overlaps a bulk invalidation is redone instead of being served")
+    void reloadsEntriesFromAnOlderGeneration() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<TaskResponse> inFlight = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            if (loads.incrementAndGet() > 1) {
+                return response(id, 1L, "after bulk update");
+            }
+            started.countDown();
+            awaitRelease();
+            return response(id, 0L, "before bulk update");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cache.invalidateAll();
+        release.countDown();
+
+        assertThat(inFlight.get(5, TimeUnit.SECONDS).getTitle()).isEqualTo("after bulk update");
+        assertThat(cache.getIfPresent(1L).getTitle()).isEqualTo("after bulk update");
+        assertThat(loads).hasValue(2);
+        assertThat(cache.generation()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A failed load is not cached")
+    void failedLoadIsRetried() {
+        assertThatThrownBy(() -> cache.get(1L, id -> {
+            throw new IllegalStateException("not found");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(1L, id -> response(id, 0L, "loaded")).getTitle()).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("put keeps the entry with the newer version")
+    void putKeepsNewerVersion() {
+        cache.put(response(1L, 5L, "v5"), cache.generation());
+        cache.put(response(1L, 4L, "v4"), cache.generation());
+
+        assertThat(cache.getIfPresent(1L).getTitle()).isEqualTo("v5");
+
+        cache.put(response(1L, 6L, "v6"), cache.generation());
+        assertThat(cache.getIfPresent(1L).getTitle()).isEqualTo("v6");
+    }
+
+    @Test
+    @DisplayName("A write that overlaps a bulk invalidation is not cached")
+    void putDropsWriteFromAnOlderGeneration() {
+        long generationBeforeWrite = cache.generation();
+        cache.invalidateAll();
+
+        cache.put(response(1L, 5L, "written before bulk update"), generationBeforeWrite);
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    private static TaskResponse response(Long id, Long version, String title) {
+        TaskResponse response = new TaskResponse();
+        response.setId(id);
+        response.setVersion(version);
+        response.setTitle(title);
+        return response;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
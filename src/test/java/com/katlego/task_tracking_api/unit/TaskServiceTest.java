@@ -3,16 +3,28 @@ package com.katlego.task_tracking_api.unit;
 import com.katlego.task_tracking_api.common.AuthenticatedUserComponent;
 import com.katlego.task_tracking_api.domain.Task;
 import com.katlego.task_tracking_api.domain.TaskStatus;
+import com.katlego.task_tracking_api.domain.TaskTombstone;
 import com.katlego.task_tracking_api.domain.User;
+import com.katlego.task_tracking_api.dto.task.TaskAssignItem;
 import com.katlego.task_tracking_api.dto.task.TaskAssignRequest;
+import com.katlego.task_tracking_api.dto.task.TaskCursor;
+import com.katlego.task_tracking_api.dto.task.TaskCursorPage;
 import com.katlego.task_tracking_api.dto.task.TaskDeleteResponse;
+import com.katlego.task_tracking_api.dto.task.TaskEventType;
 import com.katlego.task_tracking_api.dto.task.TaskFilter;
 import com.katlego.task_tracking_api.dto.task.TaskRequest;
 import com.katlego.task_tracking_api.dto.task.TaskResponse;
+import com.katlego.task_tracking_api.dto.task.TaskUpdateItem;
+import com.katlego.task_tracking_api.exception.BadRequestException;
+import com.katlego.task_tracking_api.exception.PreconditionFailedException;
 import com.katlego.task_tracking_api.exception.ResourceNotFoundException;
 import com.katlego.task_tracking_api.mapper.TaskMapper;
 import com.katlego.task_tracking_api.repository.TaskRepository;
+import com.katlego.task_tracking_api.repository.TaskTombstoneRepository;
 import com.katlego.task_tracking_api.repository.UserRepository;
+import com.katlego.task_tracking_api.scheduler.OverdueTaskTimer;
+import com.katlego.task_tracking_api.service.TaskEventBus;
+import com.katlego.task_tracking_api.service.TaskResponseCache;
 import com.katlego.task_tracking_api.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -30,6 +43,7 @@ import org.springframework.data.jpa.domain.Specification;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -44,6 +58,10 @@ class TaskServiceTest {
     @Mock private AuthenticatedUserComponent authenticatedUserComponent;
     @Mock private TaskMapper taskMapper;
     @Mock private UserRepository userRepository;
+    @Mock private OverdueTaskTimer overdueTaskTimer;
+    @Spy private TaskResponseCache taskResponseCache = new TaskResponseCache(100, 60);
+    @Mock private TaskEventBus taskEventBus;
+    @Mock private TaskTombstoneRepository taskTombstoneRepository;
 
     @InjectMocks
     private TaskService taskService;
@@ -67,6 +85,7 @@ class TaskServiceTest {
         task.setStatus(TaskStatus.NEW);
         task.setDueDate(Instant.now().plusSeconds(3600));
         task.setAssignedUser(user);
+        task.setVersion(3L);
 
         taskResponse = new TaskResponse();
         taskResponse.setId(task.getId());
@@ -94,16 +113,17 @@ class TaskServiceTest {
         verify(taskRepository).save(mapped);
         verify(taskMapper).toTaskFromRequest(taskRequest);
         verify(taskMapper).toTaskResponseFromModel(task);
+        verify(overdueTaskTimer).schedule(task.getId(), task.getDueDate(), task.getStatus());
     }
 
     @Test
     @DisplayName("updateTask updates existing task")
     void updateTask_success() {
         when(taskRepository.findById(10L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(task)).thenReturn(task);
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
         when(taskMapper.toTaskResponseFromModel(task)).thenReturn(taskResponse);
 
-        TaskResponse result = taskService.updateTask(10L, taskRequest);
+        TaskResponse result = taskService.updateTask(10L, taskRequest, Set.of(3L));
 
         assertThat(result).isEqualTo(taskResponse);
         assertThat(task.getTitle()).isEqualTo(taskRequest.getTitle());
@@ -111,6 +131,8 @@ class TaskServiceTest {
         assertThat(task.getDescription()).isEqualTo(taskRequest.getDescription());
         assertThat(task.getDueDate()).isEqualTo(taskRequest.getDueDate());
         verify(taskRepository).save(task);
+        verify(overdueTaskTimer).schedule(10L, taskRequest.getDueDate(), taskRequest.getStatus());
+        verify(taskResponseCache).put(taskResponse, 0L);
     }
 
     @Test
@@ -118,28 +140,72 @@ class TaskServiceTest {
     void updateTask_notFound() {
         when(taskRepository.findById(99L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> taskService.updateTask(99L, taskRequest))
+        assertThatThrownBy(() -> taskService.updateTask(99L, taskRequest, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Task with id: 99");
 
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("updateTask rejects a stale If-Match version without saving")
+    void updateTask_versionMismatch() {
+        when(taskRepository.findById(10L)).thenReturn(Optional.of(task));
+
+        assertThatThrownBy(() -> taskService.updateTask(10L, taskRequest, Set.of(2L)))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("current version is 3");
+
+        assertThat(task.getTitle()).isEqualTo("Test task");
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("getTaskVersion reads only the version")
+    void getTaskVersion_success() {
+        when(taskRepository.findVersionById(10L)).thenReturn(Optional.of(3L));
+
+        assertThat(taskService.getTaskVersion(10L)).isEqualTo(3L);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("getTaskVersion throws when task not found")
+    void getTaskVersion_notFound() {
+        when(taskRepository.findVersionById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> taskService.getTaskVersion(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
     @DisplayName("getTaskById returns task response")
     void getTaskById_success() {
-        when(taskRepository.findById(10L)).thenReturn(Optional.of(task));
+        when(taskRepository.findWithAssignedUserById(10L)).thenReturn(Optional.of(task));
+        when(taskMapper.toTaskResponseFromModel(task)).thenReturn(taskResponse);
+
+        TaskResponse result = taskService.getTaskById(10L);
+
+        assertThat(result).isEqualTo(taskResponse);
+    }
+
+    @Test
+    @DisplayName("getTaskById serves repeated reads from the cache")
+    void getTaskById_cached() {
+        when(taskRepository.findWithAssignedUserById(10L)).thenReturn(Optional.of(task));
         when(taskMapper.toTaskResponseFromModel(task)).thenReturn(taskResponse);
 
+        taskService.getTaskById(10L);
         TaskResponse result = taskService.getTaskById(10L);
 
         assertThat(result).isEqualTo(taskResponse);
+        verify(taskRepository, times(1)).findWithAssignedUserById(10L);
     }
 
     @Test
     @DisplayName("getTaskById throws when task not found")
     void getTaskById_notFound() {
-        when(taskRepository.findById(10L)).thenReturn(Optional.empty());
+        when(taskRepository.findWithAssignedUserById(10L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> taskService.getTaskById(10L))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -149,28 +215,53 @@ class TaskServiceTest {
     @Test
     @DisplayName("getAllMyAssignedTasks returns tasks for current user")
     void getAllMyAssignedTasks_success() {
-        when(authenticatedUserComponent.getCurrentLoggedInUser()).thenReturn(user);
-        when(taskRepository.findTaskByAssignedUser(user.getId())).thenReturn(List.of(task));
-        when(taskMapper.toTaskResponseFromModel(task)).thenReturn(taskResponse);
+        when(authenticatedUserComponent.getCurrentUserId()).thenReturn(user.getId());
+        when(taskRepository.findAssignedTaskResponses(eq(user.getId()), any(Pageable.class)))
+                .thenReturn(List.of(taskResponse));
 
-        List<TaskResponse> result = taskService.getAllMyAssignedTasks();
+        TaskCursorPage result = taskService.getAllMyAssignedTasks(null, 50);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst()).isEqualTo(taskResponse);
-        verify(taskRepository).findTaskByAssignedUser(user.getId());
+        assertThat(result.getItems()).containsExactly(taskResponse);
+        assertThat(result.getNextCursor()).isNull();
+        verify(taskRepository).findAssignedTaskResponses(user.getId(), PageRequest.of(0, 51));
     }
 
     @Test
-    @DisplayName("getAllTasks returns all tasks")
-    void getAllTasks_success() {
-        when(taskRepository.findAll()).thenReturn(List.of(task));
-        when(taskMapper.toTaskResponseFromModel(task)).thenReturn(taskResponse);
+    @DisplayName("getAllTasks returns first page with a cursor when more tasks exist")
+    void getAllTasks_returnsNextCursor() {
+        TaskResponse newest = responseCreatedAt(12L, Instant.parse("2026-01-03T00:00:00Z"));
+        TaskResponse middle = responseCreatedAt(11L, Instant.parse("2026-01-02T00:00:00Z"));
+        TaskResponse oldest = responseCreatedAt(10L, Instant.parse("2026-01-01T00:00:00Z"));
+
+        when(taskRepository.findTaskResponses(PageRequest.of(0, 3))).thenReturn(List.of(newest, middle, oldest));
+
+        TaskCursorPage result = taskService.getAllTasks(null, 2);
+
+        assertThat(result.getItems()).containsExactly(newest, middle);
+        assertThat(TaskCursor.decode(result.getNextCursor()))
+                .isEqualTo(new TaskCursor(middle.getCreatedDate(), middle.getId()));
+    }
+
+    @Test
+    @DisplayName("getAllTasks continues after the given cursor")
+    void getAllTasks_seeksAfterCursor() {
+        TaskCursor cursor = new TaskCursor(Instant.parse("2026-01-02T00:00:00Z"), 11L);
+
+        when(taskRepository.findTaskResponsesAfter(cursor.createdDate(), cursor.id(), PageRequest.of(0, 3)))
+                .thenReturn(List.of(taskResponse));
+
+        TaskCursorPage result = taskService.getAllTasks(cursor.encode(), 2);
 
-        List<TaskResponse> result = taskService.getAllTasks();
+        assertThat(result.getItems()).containsExactly(taskResponse);
+        assertThat(result.getNextCursor()).isNull();
+        verify(taskRepository, never()).findTaskResponses(any());
+    }
 
-        assertThat(result).hasSize(1);
-        assertThat(result.getFirst()).isEqualTo(taskResponse);
-        verify(taskRepository).findAll();
+    @Test
+    @DisplayName("getAllTasks rejects a malformed cursor")
+    void getAllTasks_invalidCursor() {
+        assertThatThrownBy(() -> taskService.getAllTasks("not-a-cursor", 10))
+                .isInstanceOf(BadRequestException.class);
     }
 
     @Test
@@ -182,6 +273,10 @@ class TaskServiceTest {
 
         assertThat(response.getMessage()).contains("successfully deleted");
         verify(taskRepository).delete(task);
+        verify(taskResponseCache).invalidate(10L);
+        verify(taskEventBus).publish(eq(1L), argThat(event -> event.getType() == TaskEventType.DELETED));
+        verify(taskTombstoneRepository).save(argThat((TaskTombstone tombstone) ->
+                tombstone.getTaskId() == 10L && tombstone.getUserId() == 1L));
     }
 
     @Test
@@ -207,14 +302,20 @@ class TaskServiceTest {
 
         when(taskRepository.findById(10L)).thenReturn(Optional.of(task));
         when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
-        when(taskRepository.save(task)).thenReturn(task);
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
         when(taskMapper.toTaskResponseFromModel(task)).thenReturn(taskResponse);
+        taskResponse.setAssignedUserId(2L);
 
-        TaskResponse result = taskService.assignTask(10L, assignRequest);
+        TaskResponse result = taskService.assignTask(10L, assignRequest, null);
 
         assertThat(result).isEqualTo(taskResponse);
         assertThat(task.getAssignedUser()).isEqualTo(assignee);
-        verify(taskRepository).save(task);
+        verify(taskRepository).saveAndFlush(task);
+        // The previous assignee gets a tombstone for delta sync and a stream event.
+        verify(taskTombstoneRepository).saveAll(argThat((List<TaskTombstone> tombstones) ->
+                tombstones.size() == 1 && tombstones.getFirst().getUserId() == 1L));
+        verify(taskEventBus).publish(eq(2L), argThat(event -> event.getType() == TaskEventType.ASSIGNED));
+        verify(taskEventBus).publish(eq(1L), argThat(event -> event.getType() == TaskEventType.ASSIGNED));
     }
 
     @Test
@@ -225,7 +326,7 @@ class TaskServiceTest {
 
         when(taskRepository.findById(10L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> taskService.assignTask(10L, assignRequest))
+        assertThatThrownBy(() -> taskService.assignTask(10L, assignRequest, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Task with id: 10");
 
@@ -241,11 +342,114 @@ class TaskServiceTest {
         when(taskRepository.findById(10L)).thenReturn(Optional.of(task));
         when(userRepository.findById(2L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> taskService.assignTask(10L, assignRequest))
+        assertThatThrownBy(() -> taskService.assignTask(10L, assignRequest, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("User with id: 2");
 
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("createTasks saves all tasks in one call and schedules them")
+    void createTasks_success() {
+        Task mapped = new Task();
+
+        when(taskMapper.toTaskFromRequest(taskRequest)).thenReturn(mapped);
+        when(taskRepository.saveAll(List.of(mapped))).thenReturn(List.of(task));
+        when(taskMapper.toTaskResponseFromModel(task)).thenReturn(taskResponse);
+
+        List<TaskResponse> result = taskService.createTasks(List.of(taskRequest));
+
+        assertThat(result).containsExactly(taskResponse);
         verify(taskRepository, never()).save(any());
+        verify(overdueTaskTimer).schedule(task.getId(), task.getDueDate(), task.getStatus());
+    }
+
+    @Test
+    @DisplayName("updateTasks loads all tasks with one query and applies each item")
+    void updateTasks_success() {
+        TaskUpdateItem item = new TaskUpdateItem();
+        item.setId(10L);
+        item.setTitle("Bulk title");
+        item.setStatus(TaskStatus.COMPLETED);
+
+        when(taskRepository.findByIdIn(List.of(10L))).thenReturn(List.of(task));
+        when(taskMapper.toTaskResponseFromModel(task)).thenReturn(taskResponse);
+
+        List<TaskResponse> result = taskService.updateTasks(List.of(item));
+
+        assertThat(result).containsExactly(taskResponse);
+        assertThat(task.getTitle()).isEqualTo("Bulk title");
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository).flush();
+    }
+
+    @Test
+    @DisplayName("updateTasks rejects the whole request when a task is missing")
+    void updateTasks_notFound() {
+        TaskUpdateItem item = new TaskUpdateItem();
+        item.setId(99L);
+        item.setTitle("Bulk title");
+
+        when(taskRepository.findByIdIn(List.of(99L))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> taskService.updateTasks(List.of(item)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+
+    @Test
+    @DisplayName("updateTasks rejects the whole request when an item's version is stale")
+    void updateTasks_versionMismatch() {
+        TaskUpdateItem item = new TaskUpdateItem();
+        item.setId(10L);
+        item.setTitle("Bulk title");
+        item.setVersion(2L);
+
+        when(taskRepository.findByIdIn(List.of(10L))).thenReturn(List.of(task));
+
+        assertThatThrownBy(() -> taskService.updateTasks(List.of(item)))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("current version is 3");
+
+        assertThat(task.getTitle()).isEqualTo("Test task");
+        verify(taskRepository, never()).flush();
+    }
+
+    @Test
+    @DisplayName("assignTasks rejects the whole request when an item's version is stale")
+    void assignTasks_versionMismatch() {
+        TaskAssignItem item = new TaskAssignItem();
+        item.setTaskId(10L);
+        item.setAssignedUserId(2L);
+        item.setVersion(2L);
+
+        when(taskRepository.findByIdIn(List.of(10L))).thenReturn(List.of(task));
+
+        assertThatThrownBy(() -> taskService.assignTasks(List.of(item)))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("current version is 3");
+
+        assertThat(task.getAssignedUser()).isEqualTo(user);
+        verify(userRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("assignTasks throws when a user is missing")
+    void assignTasks_userNotFound() {
+        TaskAssignItem item = new TaskAssignItem();
+        item.setTaskId(10L);
+        item.setAssignedUserId(2L);
+
+        when(taskRepository.findByIdIn(List.of(10L))).thenReturn(List.of(task));
+        when(userRepository.findAllById(List.of(2L))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> taskService.assignTasks(List.of(item)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Users with ids: [2]");
+
+        assertThat(task.getAssignedUser()).isEqualTo(user);
     }
 
     @Test
@@ -277,4 +481,11 @@ class TaskServiceTest {
 
         verify(taskRepository).findAll(any(Specification.class), eq(pageable));
     }
+
+    private TaskResponse responseCreatedAt(Long id, Instant createdDate) {
+        TaskResponse response = new TaskResponse();
+        response.setId(id);
+        response.setCreatedDate(createdDate);
+        return response;
+    }
 }